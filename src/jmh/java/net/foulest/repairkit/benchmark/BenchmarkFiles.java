@@ -0,0 +1,89 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.benchmark;
+
+import net.foulest.repairkit.util.config.ConfigLoader;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Utility methods for the files benchmarks read and write.
+ *
+ * @author Foulest
+ */
+final class BenchmarkFiles {
+
+    private BenchmarkFiles() {
+    }
+
+    /**
+     * Reads a bundled config file.
+     *
+     * @param name The name of the config file, such as {@code bloatware.json}.
+     * @return The config file's contents.
+     */
+    static @NotNull String readConfig(@NotNull String name) {
+        try (InputStream input = BenchmarkFiles.class.getClassLoader().getResourceAsStream("config/" + name)) {
+            if (input == null) {
+                throw new IllegalStateException("Bundled config not found: " + name);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Loads a bundled config file.
+     *
+     * @param name The name of the config file, such as {@code bloatware.json}.
+     * @return The parsed config.
+     */
+    static @NotNull Map<String, Map<String, Object>> loadConfig(@NotNull String name) {
+        try (Reader reader = new StringReader(readConfig(name))) {
+            return new ConfigLoader(reader).getConfig();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Deletes a folder and everything in it.
+     *
+     * @param folder The folder to delete.
+     * @throws IOException If a file couldn't be deleted.
+     */
+    static void deleteRecursively(@NotNull Path folder) throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.benchmark;
+
+import net.foulest.repairkit.util.config.tasks.types.BloatwareTaskRunner;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures matching installed packages against the bundled bloatware patterns.
+ * <p>
+ * The installed packages stand in for the output of {@code Get-AppxPackage}:
+ * a mix of packages on the bloatware list and ones that aren't.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BloatwareMatchingBenchmark {
+
+    @Param({"100", "400"})
+    public int installedPackages;
+
+    private List<String> patterns;
+    private Collection<String> installed;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Map<String, Object> bloatware = BenchmarkFiles.loadConfig("bloatware.json").get("bloatware");
+        patterns = (List<String>) bloatware.get("values");
+
+        // Every fourth package is on the bloatware list; wildcard patterns are given a concrete suffix.
+        List<String> packages = new ArrayList<>(installedPackages);
+
+        for (int i = 0; i < installedPackages; i++) {
+            if (i % 4 == 0) {
+                packages.add(patterns.get(i % patterns.size()).replace("*", "Suffix" + i));
+            } else {
+                packages.add("Contoso.SystemComponent" + i);
+            }
+        }
+
+        installed = new HashSet<>(packages);
+    }
+
+    @Benchmark
+    public @NotNull List<String> findPackagesToRemove() {
+        return BloatwareTaskRunner.findPackagesToRemove(installed, patterns);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.benchmark;
+
+import net.foulest.repairkit.util.config.ConfigLoader;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing each bundled config file.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConfigLoaderBenchmark {
+
+    @Param({
+            "bloatware.json",
+            "disk_issues.json",
+            "features_tweaks.json",
+            "junk_files.json",
+            "registry_tweaks.json",
+            "services_tweaks.json",
+            "system_policies.json",
+            "system_tweaks.json",
+            "update_programs.json",
+            "windows_defender.json"
+    })
+    public String configFile;
+
+    private String contents;
+
+    @Setup
+    public void setup() {
+        contents = BenchmarkFiles.readConfig(configFile);
+    }
+
+    @Benchmark
+    public @NotNull Map<String, Map<String, Object>> parse() {
+        return new ConfigLoader(new StringReader(contents)).getConfig();
+    }
+}
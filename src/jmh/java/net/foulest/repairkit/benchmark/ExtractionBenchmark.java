@@ -0,0 +1,139 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.benchmark;
+
+import net.foulest.repairkit.util.FileUtil;
+import org.apache.commons.compress.archivers.sevenz.SevenZArchiveEntry;
+import org.apache.commons.compress.archivers.sevenz.SevenZOutputFile;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Measures extracting archives with {@link FileUtil#unzipFile(String, String)}.
+ * <p>
+ * Zip archives go through the parallel zip extractor and 7z archives through the
+ * in-process 7z extractor; the archive is compressed with LZMA2, so 7-Zip itself
+ * is never needed. Archives are generated in the temp directory with a mix of
+ * compressible and incompressible files, like the bundled tools.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExtractionBenchmark {
+
+    private static final int FILE_COUNT = 200;
+    private static final int FILE_SIZE = 32 * 1024;
+
+    @Param({"zip", "7z"})
+    public String format;
+
+    private Path folder;
+    private String archive;
+    private String destination;
+
+    @Setup
+    public void setup() throws IOException {
+        folder = Files.createTempDirectory("RepairKit-bench-extract");
+        archive = folder.resolve("archive." + format).toString();
+        destination = folder.resolve("out").toString();
+
+        if (format.equals("zip")) {
+            writeZip(Path.of(archive));
+        } else {
+            write7z(Path.of(archive));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFiles.deleteRecursively(folder);
+    }
+
+    @Benchmark
+    public void unzipFile() {
+        FileUtil.unzipFile(archive, destination);
+    }
+
+    /**
+     * Writes a zip archive of the generated files.
+     *
+     * @param path The path to write the archive to.
+     * @throws IOException If the archive couldn't be written.
+     */
+    private static void writeZip(@NotNull Path path) throws IOException {
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(path))) {
+            for (int i = 0; i < FILE_COUNT; i++) {
+                output.putNextEntry(new ZipEntry("tool/file" + i + ".bin"));
+                output.write(generateFile(i));
+                output.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Writes a 7z archive of the generated files.
+     *
+     * @param path The path to write the archive to.
+     * @throws IOException If the archive couldn't be written.
+     */
+    private static void write7z(@NotNull Path path) throws IOException {
+        try (SevenZOutputFile output = new SevenZOutputFile(path.toFile())) {
+            for (int i = 0; i < FILE_COUNT; i++) {
+                byte[] data = generateFile(i);
+                SevenZArchiveEntry entry = new SevenZArchiveEntry();
+                entry.setName("tool/file" + i + ".bin");
+                entry.setSize(data.length);
+                output.putArchiveEntry(entry);
+                output.write(data);
+                output.closeArchiveEntry();
+            }
+        }
+    }
+
+    /**
+     * Generates a file's contents; every other file is random and won't compress.
+     *
+     * @param index The index of the file.
+     * @return The file's contents.
+     */
+    private static byte[] generateFile(int index) {
+        byte[] data = new byte[FILE_SIZE];
+        Random random = new Random(index);
+
+        if (index % 2 == 0) {
+            random.nextBytes(data);
+        } else {
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) ('a' + random.nextInt(8));
+            }
+        }
+        return data;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.benchmark;
+
+import net.foulest.repairkit.util.IconCache;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading an application icon at the size the panels display it at.
+ * <p>
+ * Compares decoding and scaling with {@link Image#getScaledInstance} on every page
+ * build, as the panels used to, with decoding through {@link ImageIO} and scaling
+ * with {@link IconCache#scale}, and with fetching the icon from {@link IconCache}.
+ * Runs headless.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IconLoadingBenchmark {
+
+    private static final int ICON_SIZE = 35;
+
+    // A palette icon, an RGBA icon, and the larger RepairKit icon, which is actually scaled down
+    @Param({"CPU-Z.png", "Everything.png", "RepairKit.png"})
+    public String icon;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws IOException {
+        try (InputStream input = IconLoadingBenchmark.class.getClassLoader().getResourceAsStream("icons/" + icon)) {
+            if (input == null) {
+                throw new IllegalStateException("Bundled icon not found: " + icon);
+            }
+            bytes = input.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public @NotNull ImageIcon scaledInstance() {
+        @NotNull Image image = new ImageIcon(bytes).getImage();
+        return new ImageIcon(image.getScaledInstance(ICON_SIZE, ICON_SIZE, Image.SCALE_SMOOTH));
+    }
+
+    @Benchmark
+    public @NotNull ImageIcon imageIOAndGraphics2D() throws IOException {
+        @NotNull BufferedImage image = ImageIO.read(new MemoryCacheImageInputStream(new ByteArrayInputStream(bytes)));
+        return new ImageIcon(IconCache.scale(image, ICON_SIZE));
+    }
+
+    @Benchmark
+    public @NotNull ImageIcon cached() {
+        return IconCache.getIcon("icons/" + icon, ICON_SIZE);
+    }
+}
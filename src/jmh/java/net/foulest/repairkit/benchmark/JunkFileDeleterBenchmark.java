@@ -0,0 +1,86 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.benchmark;
+
+import net.foulest.repairkit.util.junk.JunkFileDeleter;
+import net.foulest.repairkit.util.junk.JunkFileReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures deleting junk files with {@link JunkFileDeleter}.
+ * <p>
+ * Each invocation deletes a fresh set of small files in the temp directory, so
+ * this measures the deleter's queueing and per-file checks along with the file system.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class JunkFileDeleterBenchmark {
+
+    private static final int FILE_COUNT = 2000;
+
+    @Param({"1", "4", "8"})
+    public int workers;
+
+    private Path folder;
+    private final List<JunkFileReport.Entry> entries = new ArrayList<>(FILE_COUNT);
+
+    @Setup(Level.Trial)
+    public void createFolder() throws IOException {
+        folder = Files.createTempDirectory("RepairKit-bench-junk");
+    }
+
+    @Setup(Level.Invocation)
+    public void createFiles() throws IOException {
+        entries.clear();
+        byte[] data = new byte[512];
+        String root = String.valueOf(folder.getRoot());
+
+        for (int i = 0; i < FILE_COUNT; i++) {
+            Path file = Files.write(folder.resolve("junk" + i + ".tmp"), data);
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            entries.add(new JunkFileReport.Entry(file.toString(), ".tmp", root,
+                    attrs.size(), attrs.lastModifiedTime().toMillis()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFolder() throws IOException {
+        BenchmarkFiles.deleteRecursively(folder);
+    }
+
+    @Benchmark
+    public JunkFileDeleter.Stats delete() {
+        JunkFileDeleter deleter = new JunkFileDeleter(workers, 4, 4096);
+        deleter.start();
+        entries.forEach(deleter::submit);
+        return deleter.finish();
+    }
+}
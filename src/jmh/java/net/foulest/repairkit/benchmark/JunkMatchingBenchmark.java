@@ -0,0 +1,128 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.benchmark;
+
+import net.foulest.repairkit.util.JunkFileUtil;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures matching scanned files against the junk file extensions and excluded paths.
+ * <p>
+ * The files stand in for the output of the Everything Command Line tool: a mix of
+ * junk files, other files and files under excluded folders.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JunkMatchingBenchmark {
+
+    private static final int FILE_COUNT = 1000;
+
+    private static final List<String> FILE_NAMES = List.of(
+            "setup.tmp", "~WRD0001.temp", "config.old", "install.old.log", "notes.txt",
+            "MEMORY.DMP", ".DS_Store", "java_pid1234.hprof", "report.docx", "cache.old.ver"
+    );
+
+    private static final List<String> FOLDERS = List.of(
+            "Users\\Foulest\\AppData\\Local\\Temp",
+            "Users\\Foulest\\Documents",
+            "Windows\\System32\\LogFiles",
+            "ProgramData\\Vendor\\Cache"
+    );
+
+    private final List<Pattern> extensionPatterns = new ArrayList<>();
+    private final List<String> fileNames = new ArrayList<>();
+    private final List<String> files = new ArrayList<>();
+    private Set<Path> excludedPaths;
+
+    @Setup
+    public void setup() {
+        for (String extension : JunkFileUtil.getJunkFileExtensions()) {
+            // The Everything Command Line tool matches regular expressions case-insensitively.
+            extensionPatterns.add(Pattern.compile(extension, Pattern.CASE_INSENSITIVE));
+        }
+
+        excludedPaths = new HashSet<>();
+        excludedPaths.add(Paths.get(drivePath("Windows\\System32")).toAbsolutePath().normalize());
+        excludedPaths.add(Paths.get(drivePath("ProgramData\\Vendor")).toAbsolutePath().normalize());
+
+        for (int i = 0; i < FILE_COUNT; i++) {
+            String fileName = i + "_" + FILE_NAMES.get(i % FILE_NAMES.size());
+            fileNames.add(fileName);
+            files.add(drivePath(FOLDERS.get(i % FOLDERS.size()) + "\\" + fileName));
+        }
+    }
+
+    @Benchmark
+    public int matchExtensions() {
+        int matches = 0;
+
+        for (String fileName : fileNames) {
+            for (Pattern pattern : extensionPatterns) {
+                if (pattern.matcher(fileName).find()) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public void resolveScannedFiles(Blackhole blackhole) {
+        for (String file : files) {
+            blackhole.consume(JunkFileUtil.resolveScannedFile(file, excludedPaths));
+        }
+    }
+
+    @Benchmark
+    public void getExtensionNames(Blackhole blackhole) {
+        for (String extension : JunkFileUtil.getJunkFileExtensions()) {
+            blackhole.consume(JunkFileUtil.getExtensionName(extension));
+        }
+    }
+
+    /**
+     * Builds the path of a file on the C: drive.
+     * On other platforms, the drive is a folder in the temp directory, so paths keep
+     * the {@code :\} scanned files are checked for and still have multiple segments.
+     *
+     * @param path The path on the drive, separated with backslashes.
+     * @return The path of the file.
+     */
+    private static @NotNull String drivePath(@NotNull String path) {
+        if (File.separatorChar == '\\') {
+            return "C:\\" + path;
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"), "C:\\").resolve(path.replace('\\', '/')).toString();
+    }
+}
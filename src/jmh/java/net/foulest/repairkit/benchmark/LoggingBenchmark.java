@@ -0,0 +1,87 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.benchmark;
+
+import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.log.LogLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures logging through {@link DebugUtil} from many threads at once.
+ * <p>
+ * With the {@code DEBUG} threshold, messages go through the ring buffer and are
+ * written to the log file, so this measures producer throughput against the writer.
+ * With the {@code INFO} threshold, debug messages are filtered out; run with
+ * {@code -prof gc} to compare what pattern messages and concatenated messages
+ * allocate before being dropped.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@Threads(16)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoggingBenchmark {
+
+    @Param({"DEBUG", "INFO"})
+    public LogLevel threshold;
+
+    private PrintStream originalOut;
+    private LogLevel originalLevel;
+
+    @Setup
+    public void setup() {
+        // Keeps the console echo out of the benchmark's output.
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        originalLevel = DebugUtil.getLevel();
+        DebugUtil.setLevel(threshold);
+    }
+
+    @TearDown
+    public void tearDown() {
+        DebugUtil.flush();
+        DebugUtil.setLevel(originalLevel);
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void pattern(ThreadState state) {
+        DebugUtil.debug("Ran command: {} (exit code {})", state.command, state.exitCode);
+    }
+
+    @Benchmark
+    public void concatenated(ThreadState state) {
+        DebugUtil.debug("Ran command: " + state.command + " (exit code " + state.exitCode + ")");
+    }
+
+    /**
+     * The arguments logged by each thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        public String command = "sc config DiagTrack start= disabled";
+        public Integer exitCode = 1060;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.benchmark;
+
+import net.foulest.repairkit.util.config.tasks.types.RegistryTaskRunner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing the bundled registry configs into registry changes.
+ * Parsing doesn't touch the registry, so this runs on any platform.
+ *
+ * @author Foulest
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegistryParsingBenchmark {
+
+    private final List<Map.Entry<String, Object>> entries = new ArrayList<>();
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        for (String name : List.of("registry_tweaks.json", "system_policies.json")) {
+            for (Map<String, Object> section : BenchmarkFiles.loadConfig(name).values()) {
+                entries.addAll(((Map<String, Object>) section.get("values")).entrySet());
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseChanges(Blackhole blackhole) {
+        for (Map.Entry<String, Object> entry : entries) {
+            blackhole.consume(RegistryTaskRunner.parseChange(entry.getKey(), entry.getValue()));
+        }
+    }
+}
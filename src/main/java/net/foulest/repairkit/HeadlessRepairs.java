@@ -0,0 +1,236 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.FileUtil;
+import net.foulest.repairkit.util.JunkFileUtil;
+import net.foulest.repairkit.util.jfr.FlightRecording;
+import net.foulest.repairkit.util.journal.JournalEvent;
+import net.foulest.repairkit.util.journal.RunJournal;
+import net.foulest.repairkit.util.metrics.MetricsRegistry;
+import net.foulest.repairkit.util.pipeline.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the automatic repairs from the command line, without the window.
+ * <p>
+ * Launched with {@code --headless}, optionally with {@code --steps=<steps>} to pick
+ * the steps to run (IDs or short names such as {@code registry,services,junk};
+ * every step by default) and {@code --report=<file>} to write a JSON report.
+ * {@code --junk-report} makes the junk file step only write a report of what it would
+ * delete, which can be reviewed and then applied with {@code --apply-junk-report=<file>}.
+ * Swing is never initialized, so this can be run unattended, e.g. by RMM tools.
+ * <p>
+ * Exits with 0 if every step succeeded, 1 if any step failed, 2 for invalid
+ * arguments and 3 if the repairs can't run on this system.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HeadlessRepairs {
+
+    /**
+     * The launch flag for running the automatic repairs without the window.
+     */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    static final int EXIT_OK = 0;
+    static final int EXIT_STEPS_FAILED = 1;
+    static final int EXIT_INVALID_ARGUMENTS = 2;
+    static final int EXIT_UNSUPPORTED_SYSTEM = 3;
+
+    private static final String STEPS_FLAG = "--steps=";
+    private static final String REPORT_FLAG = "--report=";
+    private static final String JUNK_REPORT_FLAG = "--junk-report";
+    private static final String APPLY_JUNK_REPORT_FLAG = "--apply-junk-report=";
+
+    /**
+     * Checks whether the launch flags ask for the headless mode.
+     *
+     * @param args The command line arguments.
+     * @return Whether to run the automatic repairs without the window.
+     */
+    public static boolean isRequested(String @NotNull [] args) {
+        for (@NotNull String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs the automatic repairs without the window.
+     *
+     * @param args The command line arguments.
+     * @return The exit code.
+     */
+    public static int run(String @NotNull [] args) {
+        // Makes any stray dialog fail instead of waiting for a user who isn't there.
+        System.setProperty("java.awt.headless", "true");
+
+        @Nullable String stepNames = null;
+        @Nullable String reportPath = null;
+        @Nullable String junkReportPath = null;
+        boolean junkReport = false;
+
+        for (@NotNull String arg : args) {
+            if (arg.startsWith(STEPS_FLAG)) {
+                stepNames = arg.substring(STEPS_FLAG.length());
+            } else if (arg.startsWith(REPORT_FLAG)) {
+                reportPath = arg.substring(REPORT_FLAG.length());
+            } else if (arg.equals(JUNK_REPORT_FLAG)) {
+                junkReport = true;
+            } else if (arg.startsWith(APPLY_JUNK_REPORT_FLAG)) {
+                junkReportPath = arg.substring(APPLY_JUNK_REPORT_FLAG.length());
+            }
+        }
+
+        if (junkReportPath != null) {
+            if (stepNames != null || junkReport) {
+                System.err.println(APPLY_JUNK_REPORT_FLAG + " can't be combined with "
+                        + STEPS_FLAG + " or " + JUNK_REPORT_FLAG + ".");
+                return EXIT_INVALID_ARGUMENTS;
+            }
+
+            if (!Files.isRegularFile(Paths.get(junkReportPath))) {
+                System.err.println("Junk file report not found: " + junkReportPath);
+                return EXIT_INVALID_ARGUMENTS;
+            }
+        }
+
+        @NotNull List<RepairStep> steps;
+
+        try {
+            steps = stepNames == null ? RepairSteps.getSteps() : RepairSteps.select(stepNames);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            return EXIT_INVALID_ARGUMENTS;
+        }
+
+        if (steps.isEmpty()) {
+            System.err.println("No steps selected.");
+            return EXIT_INVALID_ARGUMENTS;
+        }
+
+        // Checks if RepairKit is running as administrator.
+        if (!RepairKit.isRunningAsAdministrator()) {
+            System.err.println("Please run RepairKit as an administrator.");
+            return EXIT_UNSUPPORTED_SYSTEM;
+        }
+
+        // Creates the new log file.
+        DebugUtil.createLogFile(args);
+
+        // Starts a flight recording if launched with --record.
+        FlightRecording.startIfRequested(args);
+
+        // Checks for incompatibility issues.
+        @NotNull String osName = System.getProperty("os.name");
+
+        if (!System.getProperty("os.arch").contains("64") || !RepairKit.isSupportedWindowsVersion(osName)) {
+            System.err.println("Your operating system, " + osName + " (" + System.getProperty("os.arch")
+                    + "), is not supported. RepairKit is designed for 64-bit Windows 10 and 11.");
+            return EXIT_UNSUPPORTED_SYSTEM;
+        }
+
+        // Checks if the system is booting in Safe Mode.
+        if (RepairKit.isSafeBoot()) {
+            DebugUtil.debug("The system is booting in Safe Mode.");
+            RepairKit.setSafeMode(true);
+        }
+
+        // Deletes pre-existing RepairKit files, and deletes them again on shutdown.
+        RepairKit.cleanUpTempDirectory(FileUtil.tempDirectory.getPath());
+
+        // Deletes the files listed in a reviewed junk file report instead of running the steps.
+        if (junkReportPath != null) {
+            return applyJunkReport(junkReportPath);
+        }
+
+        // Only reports junk files if asked to, leaving them for a later --apply-junk-report.
+        JunkFileUtil.setDryRunRequested(junkReport);
+
+        // Runs the selected steps.
+        MetricsRegistry.reset();
+        long started = System.currentTimeMillis();
+        System.out.println("Running " + steps.size() + " repair steps...");
+
+        @NotNull PipelineResult result = new RepairPipeline(steps).run(stepResult ->
+                System.out.println("[" + stepResult.getOutcome().name().toLowerCase(Locale.ROOT) + "] "
+                        + stepResult.getStep().getLabel() + " ("
+                        + TimeUnit.NANOSECONDS.toMillis(stepResult.getDurationNanos()) + " ms"
+                        + (stepResult.getFailedTasks() > 0 ? ", " + stepResult.getFailedTasks() + " tasks failed" : "")
+                        + ")"));
+
+        MetricsRegistry.dump();
+
+        int failedSteps = result.count(JournalEvent.Outcome.FAILED);
+        System.out.println("Completed automatic repairs in " + TimeUnit.NANOSECONDS.toMillis(result.getWallClockNanos())
+                + " ms; " + failedSteps + " of " + steps.size() + " steps failed.");
+
+        // Writes the report.
+        if (reportPath != null && !reportPath.isEmpty()) {
+            try {
+                PipelineReport.of(result, started).writeJson(Paths.get(reportPath));
+                System.out.println("Wrote report to " + reportPath);
+            } catch (IOException ex) {
+                DebugUtil.warn("Failed to write report: {}", reportPath, ex);
+                System.err.println("Failed to write report: " + reportPath);
+            }
+        }
+
+        RunJournal.flush();
+        DebugUtil.flush();
+        return result.hasFailures() ? EXIT_STEPS_FAILED : EXIT_OK;
+    }
+
+    /**
+     * Deletes the files listed in a junk file report.
+     *
+     * @param reportPath The path of the JSON junk file report.
+     * @return The exit code.
+     */
+    private static int applyJunkReport(@NotNull String reportPath) {
+        System.out.println("Applying junk file report " + reportPath + "...");
+        boolean applied = JunkFileUtil.applyReport(Paths.get(reportPath));
+
+        if (applied) {
+            System.out.println("Applied junk file report.");
+        } else {
+            System.err.println("Failed to read junk file report: " + reportPath);
+        }
+
+        RunJournal.flush();
+        DebugUtil.flush();
+        return applied ? EXIT_OK : EXIT_STEPS_FAILED;
+    }
+}
@@ -17,17 +17,26 @@
  */
 package net.foulest.repairkit;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import net.foulest.repairkit.panels.AutomaticRepairs;
+import net.foulest.repairkit.panels.LazyPanel;
 import net.foulest.repairkit.panels.SystemShortcuts;
 import net.foulest.repairkit.panels.UsefulPrograms;
 import net.foulest.repairkit.util.*;
+import net.foulest.repairkit.util.backend.Backends;
+import net.foulest.repairkit.util.extract.ToolWarmup;
+import net.foulest.repairkit.util.jfr.FlightRecording;
+import net.foulest.repairkit.util.journal.RunJournal;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
 import java.awt.*;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Main class for the program.
@@ -41,6 +50,7 @@ public final class RepairKit extends JFrame {
     private static JPanel mainPanel;
 
     @Getter
+    @Setter(AccessLevel.PACKAGE)
     private static boolean safeMode;
 
     @Getter
@@ -52,10 +62,18 @@ public final class RepairKit extends JFrame {
      * @param args The program's arguments.
      */
     public static void main(String[] args) {
+        long launchNanos = System.nanoTime();
+
+        // Runs the automatic repairs without the window if launched with --headless.
+        if (HeadlessRepairs.isRequested(args)) {
+            System.exit(HeadlessRepairs.run(args));
+            return;
+        }
+
         try {
             // Checks if RepairKit is running as administrator.
             DebugUtil.debug("Checking if RepairKit is running as administrator...");
-            if (CommandUtil.getCommandOutput("net session", false, false).toString().contains("Access is denied.")) {
+            if (!isRunningAsAdministrator()) {
                 SoundUtil.playSound(ConstantUtil.ERROR_SOUND);
                 JOptionPane.showMessageDialog(null,
                         "Please run RepairKit as an administrator.",
@@ -63,10 +81,18 @@ public final class RepairKit extends JFrame {
                 System.exit(0);
                 return;
             }
+            logStartupPhase("Administrator check", launchNanos);
+
+            // Starts looking for Medal in the background, as listing the processes takes a while.
+            DebugUtil.debug("Starting the startup checks...");
+            @NotNull CompletableFuture<Boolean> medalCheck = CompletableFuture.supplyAsync(() -> ProcessUtil.isAppRunning("medal.exe"));
 
             // Creates the new log file.
             DebugUtil.createLogFile(args);
 
+            // Starts a flight recording if launched with --record.
+            FlightRecording.startIfRequested(args);
+
             // Checks if RepairKit is running in the temp directory.
             DebugUtil.debug("Checking if RepairKit is running in the temp directory...");
             @NotNull String path = FileUtil.tempDirectory.getPath();
@@ -78,6 +104,9 @@ public final class RepairKit extends JFrame {
                 return;
             }
 
+            // Deletes pre-existing RepairKit files in the background, and deletes them again on shutdown.
+            @NotNull CompletableFuture<Void> cleanUp = CompletableFuture.runAsync(() -> cleanUpTempDirectory(path));
+
             // Checks for incompatibility issues.
             DebugUtil.debug("Checking for incompatibility issues...");
             checkOperatingSystemCompatibility();
@@ -85,30 +114,27 @@ public final class RepairKit extends JFrame {
             // Checks for Medal.
             if (!safeMode) {
                 DebugUtil.debug("Checking for Medal...");
-                checkForMedal();
+                checkForMedal(medalCheck.join());
             }
 
-            // Deletes pre-existing RepairKit files.
-            DebugUtil.debug("Deleting pre-existing RepairKit files...");
-            CommandUtil.runCommand("rd /s /q \"" + path + "\"", false);
-
-            // Deletes RepairKit files on shutdown.
-            DebugUtil.debug("Deleting RepairKit files on shutdown...");
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                DebugUtil.debug("Shutting down RepairKit...");
-                CommandUtil.runCommand("rd /s /q \"" + path + "\"", false);
-            }));
-
             // Checks for updates.
             DebugUtil.debug("Checking for updates...");
             UpdateUtil.checkForUpdates();
 
+            // Waits for the old files to be deleted before any tools are extracted to the temp directory.
+            cleanUp.join();
+            logStartupPhase("Startup checks", launchNanos);
+
             // Launches the program.
             DebugUtil.debug("Launching the program...");
 
             SwingUtilities.invokeLater(() -> {
                 try {
                     new RepairKit().setVisible(true);
+                    logStartupPhase("Window", launchNanos);
+
+                    // Extracts the most launched tools in the background once the machine is idle.
+                    ToolWarmup.start();
                 } catch (RuntimeException ex) {
                     DebugUtil.warn("Failed to set the program visible", ex);
                     StackTraceElement[] stackTrace = ex.getStackTrace();
@@ -122,6 +148,17 @@ public final class RepairKit extends JFrame {
         }
     }
 
+    /**
+     * Logs how long after launch a startup phase finished.
+     *
+     * @param phase       The name of the phase.
+     * @param launchNanos The time the program was launched, from {@link System#nanoTime()}.
+     */
+    private static void logStartupPhase(@NotNull String phase, long launchNanos) {
+        DebugUtil.debug("{} finished {} ms after launch", phase,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launchNanos));
+    }
+
     /**
      * Creates a new instance of the program.
      */
@@ -134,13 +171,11 @@ public final class RepairKit extends JFrame {
             setPreferredSize(new Dimension(758, 550));
             setResizable(false);
 
-            // Initialize the panels.
+            // Initialize the panels; the panels that aren't shown first are created when they're opened.
             DebugUtil.debug("Initializing the Automatic Repairs panel...");
             @NotNull AutomaticRepairs automaticRepairs = new AutomaticRepairs();
-            DebugUtil.debug("Initializing the Useful Programs panel...");
-            @NotNull UsefulPrograms usefulPrograms = new UsefulPrograms();
-            DebugUtil.debug("Initializing the System Shortcuts panel...");
-            @NotNull SystemShortcuts systemShortcuts = new SystemShortcuts();
+            @NotNull LazyPanel usefulPrograms = new LazyPanel("Useful Programs", UsefulPrograms::new);
+            @NotNull LazyPanel systemShortcuts = new LazyPanel("System Shortcuts", SystemShortcuts::new);
 
             // Creates the main panel.
             DebugUtil.debug("Creating the main panel...");
@@ -248,6 +283,64 @@ public final class RepairKit extends JFrame {
         return bannerPanel;
     }
 
+    /**
+     * Deletes RepairKit's temp files now and again when RepairKit exits.
+     *
+     * @param path The path of RepairKit's temp directory.
+     */
+    static void cleanUpTempDirectory(@NotNull String path) {
+        // Deletes pre-existing RepairKit files.
+        DebugUtil.debug("Deleting pre-existing RepairKit files...");
+        FileUtil.deleteDirectory(Paths.get(path));
+
+        // Deletes RepairKit files on shutdown.
+        DebugUtil.debug("Deleting RepairKit files on shutdown...");
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            DebugUtil.debug("Shutting down RepairKit...");
+            FileUtil.deleteDirectory(Paths.get(path));
+
+            // Writes any log messages and journal events still waiting to be written.
+            RunJournal.flush();
+            DebugUtil.flush();
+        }));
+    }
+
+    /**
+     * Checks if RepairKit is running as administrator.
+     *
+     * @return Whether RepairKit is running as administrator.
+     */
+    static boolean isRunningAsAdministrator() {
+        boolean elevated = Backends.getElevationBackend().isElevated();
+        DebugUtil.debug("RepairKit is {}running as administrator", elevated ? "" : "not ");
+        return elevated;
+    }
+
+    /**
+     * Checks if the system is booting in Safe Mode.
+     * Windows only sets this environment variable when booting in Safe Mode.
+     *
+     * @return Whether the system is booting in Safe Mode.
+     */
+    static boolean isSafeBoot() {
+        return System.getenv("SAFEBOOT_OPTION") != null;
+    }
+
+    /**
+     * Checks if an operating system is a supported version of Windows (Windows 10 or newer).
+     *
+     * @param osName The name of the operating system.
+     * @return Whether the operating system is supported.
+     */
+    static boolean isSupportedWindowsVersion(@NotNull String osName) {
+        return osName.equalsIgnoreCase("Windows 10")
+                || osName.equalsIgnoreCase("Windows 11")
+                || osName.equalsIgnoreCase("Windows Server 2025")
+                || osName.equalsIgnoreCase("Windows Server 2022")
+                || osName.equalsIgnoreCase("Windows Server 2019")
+                || osName.equalsIgnoreCase("Windows Server 2016");
+    }
+
     /**
      * Checks if the user's operating system is supported.
      */
@@ -270,12 +363,7 @@ public final class RepairKit extends JFrame {
 
         // Checks if the operating system is outdated (older than Windows 10).
         DebugUtil.debug("Checking if the operating system is outdated...");
-        if (!osName.equalsIgnoreCase("Windows 10")
-                && !osName.equalsIgnoreCase("Windows 11")
-                && !osName.equalsIgnoreCase("Windows Server 2025")
-                && !osName.equalsIgnoreCase("Windows Server 2022")
-                && !osName.equalsIgnoreCase("Windows Server 2019")
-                && !osName.equalsIgnoreCase("Windows Server 2016")) {
+        if (!isSupportedWindowsVersion(osName)) {
             if (osName.contains("Windows")) {
                 SoundUtil.playSound(ConstantUtil.ERROR_SOUND);
                 JOptionPane.showMessageDialog(null,
@@ -299,8 +387,7 @@ public final class RepairKit extends JFrame {
 
         // Checks if the system is booting in Safe Mode.
         DebugUtil.debug("Checking if the system is booting in Safe Mode...");
-        if (!CommandUtil.getCommandOutput("echo %SAFEBOOT_OPTION%",
-                false, false).toString().contains("%SAFEBOOT_OPTION%")) {
+        if (isSafeBoot()) {
             SoundUtil.playSound(ConstantUtil.ERROR_SOUND);
             JOptionPane.showMessageDialog(null,
                     "Your system is booting in Safe Mode."
@@ -311,11 +398,13 @@ public final class RepairKit extends JFrame {
     }
 
     /**
-     * Checks if Medal is installed.
+     * Warns the user if Medal is running.
      * Medal causes issues with Desktop Window Manager.
+     *
+     * @param medalRunning Whether Medal is running.
      */
-    private static void checkForMedal() {
-        if (ProcessUtil.isProcessRunning("medal.exe")) {
+    private static void checkForMedal(boolean medalRunning) {
+        if (medalRunning) {
             SoundUtil.playSound(ConstantUtil.WARNING_SOUND);
             JOptionPane.showMessageDialog(null,
                     """
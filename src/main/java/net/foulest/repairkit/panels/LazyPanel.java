@@ -0,0 +1,77 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.panels;
+
+import net.foulest.repairkit.util.DebugUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.util.function.Supplier;
+
+/**
+ * A placeholder card that creates its panel the first time it's shown.
+ * Keeps panels the user never opens from slowing down the window's startup.
+ *
+ * @author Foulest
+ */
+public class LazyPanel extends JPanel {
+
+    private final @NotNull String name;
+    private @Nullable Supplier<? extends JComponent> factory;
+
+    /**
+     * Creates a new lazy panel.
+     *
+     * @param name    The name of the panel, for logging.
+     * @param factory The factory creating the panel when it's first shown.
+     */
+    public LazyPanel(@NotNull String name, @NotNull Supplier<? extends JComponent> factory) {
+        super(new BorderLayout());
+        this.name = name;
+        this.factory = factory;
+
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentShown(ComponentEvent event) {
+                createPanel();
+            }
+        });
+    }
+
+    /**
+     * Creates the panel, unless it was already created.
+     */
+    private void createPanel() {
+        if (factory == null) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        @NotNull JComponent panel = factory.get();
+        factory = null;
+
+        add(panel, BorderLayout.CENTER);
+        revalidate();
+        repaint();
+        DebugUtil.debug("Initialized the {} panel in {} ms", name, System.currentTimeMillis() - startTime);
+    }
+}
@@ -115,7 +115,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for Apps & Features.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/AppsFeatures.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/AppsFeatures.png", this);
 
         // Adds a button to launch Apps & Features.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open Apps & Features",
@@ -153,7 +153,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for Startup Apps.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/StartupApps.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/StartupApps.png", this);
 
         // Adds a button to launch Startup Apps.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open Startup Apps",
@@ -191,7 +191,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for Windows Update.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/WindowsUpdate.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/WindowsUpdate.png", this);
 
         // Adds a button to launch Windows Update.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open Windows Update",
@@ -234,7 +234,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for Windows Security.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/WindowsSecurity.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/WindowsSecurity.png", this);
 
         // Adds a button to launch Windows Security.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open Windows Security",
@@ -277,7 +277,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for Display Settings.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/DisplaySettings.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/DisplaySettings.png", this);
 
         // Adds a button to launch Display Settings.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open Display Settings",
@@ -310,7 +310,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for Storage Settings.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/StorageSettings.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/StorageSettings.png", this);
 
         // Adds a button to launch Storage Settings.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open Storage Settings",
@@ -348,7 +348,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for Sound Settings.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/SoundSettings.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/SoundSettings.png", this);
 
         // Adds a button to launch Sound Settings.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open Sound Settings",
@@ -386,7 +386,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for System Information.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/SystemInformation.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/SystemInformation.png", this);
 
         // Adds a button to launch System Information.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open System Information",
@@ -418,7 +418,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for Task Manager.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/TaskManager.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/TaskManager.png", this);
 
         // Adds a button to launch Task Manager.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open Task Manager",
@@ -451,7 +451,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for Device Manager.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/DeviceManager.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/DeviceManager.png", this);
 
         // Adds a button to launch Device Manager.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open Device Manager",
@@ -484,7 +484,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for Disk Cleanup.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/DiskCleanup.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/DiskCleanup.png", this);
 
         // Adds a button to launch Disk Cleanup.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open Disk Cleanup",
@@ -517,7 +517,7 @@ public class SystemShortcuts extends JPanel {
         add(description);
 
         // Adds an icon for MSConfig.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/MSConfig.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/MSConfig.png", this);
 
         // Adds a button to launch MSConfig.
         @NotNull JButton appButton = SwingUtil.createActionButton("Open MSConfig",
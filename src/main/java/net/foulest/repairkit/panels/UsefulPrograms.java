@@ -21,12 +21,9 @@ import com.sun.jna.platform.win32.WinReg;
 import net.foulest.repairkit.RepairKit;
 import net.foulest.repairkit.util.*;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
 import java.awt.*;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 
@@ -44,8 +41,11 @@ public class UsefulPrograms extends JPanel {
     private static final int ROW_SPACING = 95;
     private static final int ROWS = 4;
 
-    // The current page. Defaults to 1.
-    private int currentPage = 1;
+    // The number of pages
+    private static final int PAGE_COUNT = 3;
+
+    // The page panels, created the first time each page is shown
+    private final JPanel[] pages = new JPanel[PAGE_COUNT];
 
     /**
      * Returns the base X position for the given slot index.
@@ -67,32 +67,46 @@ public class UsefulPrograms extends JPanel {
      * Creates the Useful Programs panel and displays page 1.
      */
     public UsefulPrograms() {
-        setLayout(null);
+        setLayout(new CardLayout());
         showPage(1);
     }
 
     /**
-     * Clears the panel and renders the given page.
+     * Shows the given page, creating it the first time it's shown.
      *
      * @param page The page to display.
      */
     private void showPage(int page) {
-        currentPage = page;
-        removeAll();
+        if (pages[page - 1] == null) {
+            pages[page - 1] = createPage(page);
+            add(pages[page - 1], getPageName(page));
+        }
+
+        ((CardLayout) getLayout()).show(this, getPageName(page));
+    }
+
+    /**
+     * Creates the panel of the given page.
+     *
+     * @param page The page to create.
+     * @return The page's panel.
+     */
+    private @NotNull JPanel createPage(int page) {
+        @NotNull JPanel pagePanel = new JPanel(null);
 
         // Creates the title label.
         @NotNull JLabel titleLabel = SwingUtil.createLabel("Useful Programs",
                 new Rectangle(20, 15, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 18)
         );
-        add(titleLabel);
+        pagePanel.add(titleLabel);
 
         // Creates the page label.
-        @NotNull JLabel pageLabel = SwingUtil.createLabel("(Page " + page + "/3)",
+        @NotNull JLabel pageLabel = SwingUtil.createLabel("(Page " + page + "/" + PAGE_COUNT + ")",
                 new Rectangle(172, 15, 69, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 14)
         );
-        add(pageLabel);
+        pagePanel.add(pageLabel);
 
         // Previous page button ("<")
         @NotNull JLabel previousPage = SwingUtil.createLabel("<",
@@ -100,7 +114,7 @@ public class UsefulPrograms extends JPanel {
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 25)
         );
         previousPage.setForeground(page == 1 ? Color.LIGHT_GRAY : Color.DARK_GRAY);
-        add(previousPage);
+        pagePanel.add(previousPage);
 
         if (page > 1) {
             @NotNull JButton previousPageButton = new JButton();
@@ -109,7 +123,7 @@ public class UsefulPrograms extends JPanel {
             previousPageButton.setContentAreaFilled(false);
             previousPageButton.setBorderPainted(false);
             previousPageButton.addActionListener(e -> showPage(page - 1));
-            add(previousPageButton);
+            pagePanel.add(previousPageButton);
         }
 
         // Next page button (">")
@@ -117,106 +131,113 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(270, 21, 22, 22),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 25)
         );
-        nextPage.setForeground(page == 3 ? Color.LIGHT_GRAY : Color.DARK_GRAY);
-        add(nextPage);
+        nextPage.setForeground(page == PAGE_COUNT ? Color.LIGHT_GRAY : Color.DARK_GRAY);
+        pagePanel.add(nextPage);
 
-        if (page < 3) {
+        if (page < PAGE_COUNT) {
             @NotNull JButton nextPageButton = new JButton();
             nextPageButton.setBounds(267, 20, 22, 23);
             nextPageButton.setOpaque(false);
             nextPageButton.setContentAreaFilled(false);
             nextPageButton.setBorderPainted(false);
             nextPageButton.addActionListener(e -> showPage(page + 1));
-            add(nextPageButton);
+            pagePanel.add(nextPageButton);
         }
 
-        // Sets the panel's border.
-        setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        // Sets the page's border.
+        pagePanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
 
-        // Sets up all the pages.
+        // Sets up the page's programs.
         if (page == 1) {
-            setupPage1();
+            setupPage1(pagePanel);
         } else if (page == 2) {
-            setupPage2();
+            setupPage2(pagePanel);
         } else if (page == 3) {
-            setupPage3();
+            setupPage3(pagePanel);
         }
+        return pagePanel;
+    }
 
-        // Revalidates and paints.
-        revalidate();
-        repaint();
+    /**
+     * Gets the card name of the given page.
+     *
+     * @param page The page.
+     * @return The page's card name.
+     */
+    private static @NotNull String getPageName(int page) {
+        return "Page " + page;
     }
 
-    private void setupPage1() {
+    private void setupPage1(@NotNull JPanel page) {
         // noinspection NestedMethodCall
         @NotNull List<Runnable> tasks = Arrays.asList(
                 // Hardware Information
-                () -> setupCPUZ(0, 0),
-                () -> setupHWMonitor(1, 1),
-                () -> setupHWiNFO(2, 2),
-                () -> setupHeavyLoad(3, 3),
+                () -> setupCPUZ(page, 0, 0),
+                () -> setupHWMonitor(page, 1, 1),
+                () -> setupHWiNFO(page, 2, 2),
+                () -> setupHeavyLoad(page, 3, 3),
 
                 // File Utilities
-                () -> setupWizTree(4, 4),
-                () -> setupEverything(5, 5),
+                () -> setupWizTree(page, 4, 4),
+                () -> setupEverything(page, 5, 5),
 
                 // Malware Scanners
-                () -> setupEmsisoftScan(6, 6),
-                () -> setupSophosScan(7, 7),
+                () -> setupEmsisoftScan(page, 6, 6),
+                () -> setupSophosScan(page, 7, 7),
 
                 // Disk Utilities
-                () -> setupCrystalDiskInfo(8, 8),
-                () -> setupCrystalDiskMark(9, 9),
-                () -> setupRecuva(10, 10),
-                () -> setupDiskGenius(11, 11)
+                () -> setupCrystalDiskInfo(page, 8, 8),
+                () -> setupCrystalDiskMark(page, 9, 9),
+                () -> setupRecuva(page, 10, 10),
+                () -> setupDiskGenius(page, 11, 11)
         );
 
         TaskUtil.executeTasks(tasks);
     }
 
-    private void setupPage2() {
+    private void setupPage2(@NotNull JPanel page) {
         // noinspection NestedMethodCall
         @NotNull List<Runnable> tasks = Arrays.asList(
                 // File Tools, cont.
-                () -> setupRufus(0, 0),
+                () -> setupRufus(page, 0, 0),
 
                 // Process Tools
-                () -> setupAutoruns(1, 1),
-                () -> setupProcessExplorer(2, 2),
-                () -> setupProcessMonitor(3, 3),
+                () -> setupAutoruns(page, 1, 1),
+                () -> setupProcessExplorer(page, 2, 2),
+                () -> setupProcessMonitor(page, 3, 3),
 
                 // Networking Tools
-                () -> setupTCPView(4, 4),
-                () -> setupWinMTR(5, 5),
+                () -> setupTCPView(page, 4, 4),
+                () -> setupWinMTR(page, 5, 5),
 
                 // Nirsoft
-                () -> setupBlueScreenView(6, 6),
-                () -> setupRegScanner(7, 7),
-                () -> setupUSBDeview(8, 8),
-                () -> setupUSBLogView(9, 9),
+                () -> setupBlueScreenView(page, 6, 6),
+                () -> setupRegScanner(page, 7, 7),
+                () -> setupUSBDeview(page, 8, 8),
+                () -> setupUSBLogView(page, 9, 9),
 
                 // Graphics Card Utilities
-                () -> setupNVCleanstall(10, 10),
-                () -> setupDDU(11, 11)
+                () -> setupNVCleanstall(page, 10, 10),
+                () -> setupDDU(page, 11, 11)
         );
 
         TaskUtil.executeTasks(tasks);
     }
 
-    private void setupPage3() {
+    private void setupPage3(@NotNull JPanel page) {
         // noinspection NestedMethodCall
         @NotNull List<Runnable> tasks = Arrays.asList(
                 // Shortcuts: Windows Tools
-                () -> setup7Zip(0, 0),
-                () -> setupNotepadPlusPlus(1, 1),
-                () -> setupTwinkleTray(2, 2),
-                () -> setupFanControl(3, 3),
+                () -> setup7Zip(page, 0, 0),
+                () -> setupNotepadPlusPlus(page, 1, 1),
+                () -> setupTwinkleTray(page, 2, 2),
+                () -> setupFanControl(page, 3, 3),
 
                 // Shortcuts: Security Tools
-                () -> setupBitwarden(4, 4),
-                () -> setupSophosHome(5, 5),
-                () -> setupUBlockOrigin(6, 6),
-                () -> setupOsprey(7, 7)
+                () -> setupBitwarden(page, 4, 4),
+                () -> setupSophosHome(page, 5, 5),
+                () -> setupUBlockOrigin(page, 6, 6),
+                () -> setupOsprey(page, 7, 7)
         );
 
         TaskUtil.executeTasks(tasks);
@@ -225,7 +246,7 @@ public class UsefulPrograms extends JPanel {
     /**
      * Sets up the CPU-Z section.
      */
-    private void setupCPUZ(int x, int y) {
+    private void setupCPUZ(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -234,17 +255,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for CPU-Z.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 2.19.0",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for CPU-Z.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/CPU-Z.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/CPU-Z.png", page);
 
         // Adds a button to launch CPU-Z.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch CPU-Z",
@@ -256,13 +277,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("CPU-Z.7z", "\\CPU-Z.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the HWMonitor section.
      */
-    private void setupHWMonitor(int x, int y) {
+    private void setupHWMonitor(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -271,17 +292,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for HWMonitor.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 1.62.0",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for HWMonitor.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/HWMonitor.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/HWMonitor.png", page);
 
         // Adds a button to launch HWMonitor.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch HWMonitor",
@@ -293,13 +314,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("HWMonitor.7z", "\\HWMonitor.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the HWiNFO section.
      */
-    private void setupHWiNFO(int x, int y) {
+    private void setupHWiNFO(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -308,17 +329,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for HWiNFO.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 8.44-5935",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for HWiNFO.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/HWiNFO.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/HWiNFO.png", page);
 
         // Adds a button to launch HWiNFO.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch HWiNFO",
@@ -330,13 +351,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("HWiNFO.7z", "\\HWiNFO.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the HeavyLoad section.
      */
-    private void setupHeavyLoad(int x, int y) {
+    private void setupHeavyLoad(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -345,17 +366,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for HeavyLoad.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 4.0.0.400",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for HeavyLoad.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/HeavyLoad.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/HeavyLoad.png", page);
 
         // Adds a button to launch HeavyLoad.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch HeavyLoad",
@@ -367,13 +388,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("HeavyLoad.7z", "\\HeavyLoad.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Rufus section.
      */
-    private void setupRufus(int x, int y) {
+    private void setupRufus(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -382,17 +403,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Rufus.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 4.13.2316",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Rufus.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/Rufus.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/Rufus.png", page);
 
         // Adds a button to launch Rufus.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch Rufus",
@@ -404,13 +425,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("Rufus.7z", "\\rufus.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the WizTree section.
      */
-    private void setupWizTree(int x, int y) {
+    private void setupWizTree(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -419,17 +440,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for WizTree.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 4.30",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for WizTree.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/WizTree.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/WizTree.png", page);
 
         // Adds a button to launch WizTree.
         JButton appButton;
@@ -453,13 +474,13 @@ public class UsefulPrograms extends JPanel {
                     }
             );
         }
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Emsisoft Scan section.
      */
-    private void setupEmsisoftScan(int x, int y) {
+    private void setupEmsisoftScan(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -468,17 +489,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Emsisoft Scan.
         @NotNull JLabel description = SwingUtil.createLabel(ConstantUtil.VERSION_AUTO_UPDATED,
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Emsisoft Scan.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/Emsisoft.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/Emsisoft.png", page);
 
         // Adds a button to launch Emsisoft Scan.
         JButton appButton;
@@ -502,13 +523,13 @@ public class UsefulPrograms extends JPanel {
                     }
             );
         }
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Sophos Scan section.
      */
-    private void setupSophosScan(int x, int y) {
+    private void setupSophosScan(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -517,17 +538,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Sophos Scan.
         @NotNull JLabel description = SwingUtil.createLabel(ConstantUtil.VERSION_AUTO_UPDATED,
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Sophos Scan.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/Sophos.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/Sophos.png", page);
 
         // Adds a button to launch Sophos Scan.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch Sophos Scan",
@@ -540,31 +561,26 @@ public class UsefulPrograms extends JPanel {
                     RegistryUtil.setRegistryIntValue(WinReg.HKEY_LOCAL_MACHINE, "SOFTWARE\\SophosScanAndClean", "EULA37", 1);
 
                     // Unzips and launches Sophos Scan.
-                    try (@Nullable InputStream input = RepairKit.class.getClassLoader().getResourceAsStream("bin/Sophos.7z")) {
-                        if (input == null) {
-                            JOptionPane.showMessageDialog(null,
-                                    "Failed to load Sophos file.",
-                                    "Error", JOptionPane.ERROR_MESSAGE);
-                            return;
-                        }
-
-                        FileUtil.saveFile(input, FileUtil.tempDirectory + "\\Sophos.7z", true);
-                        @NotNull String path = FileUtil.tempDirectory.getPath();
-                        FileUtil.unzipFile(FileUtil.tempDirectory + "\\Sophos.7z", path);
-
-                        CommandUtil.runCommand("start \"\" \"" + FileUtil.tempDirectory + "\\Sophos.exe\"", true);
-                    } catch (IOException ex) {
-                        DebugUtil.warn("Failed to unzip file: Sophos.7z", ex);
+                    if (!FileUtil.saveResource("bin/Sophos.7z", FileUtil.tempDirectory + "\\Sophos.7z")) {
+                        JOptionPane.showMessageDialog(null,
+                                "Failed to load Sophos file.",
+                                "Error", JOptionPane.ERROR_MESSAGE);
+                        return;
                     }
+
+                    @NotNull String path = FileUtil.tempDirectory.getPath();
+                    FileUtil.unzipFile(FileUtil.tempDirectory + "\\Sophos.7z", path);
+
+                    CommandUtil.runCommand("start \"\" \"" + FileUtil.tempDirectory + "\\Sophos.exe\"", true);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the CrystalDiskInfo section.
      */
-    private void setupCrystalDiskInfo(int x, int y) {
+    private void setupCrystalDiskInfo(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -573,17 +589,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for CrystalDiskInfo.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 9.8.0",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for CrystalDiskInfo.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/CrystalDiskInfo.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/CrystalDiskInfo.png", page);
 
         // Adds a button to launch CrystalDiskInfo.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch CrystalDiskInfo",
@@ -595,13 +611,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("CrystalDiskInfo.7z", "\\CrystalDiskInfo.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the CrystalDiskMark section.
      */
-    private void setupCrystalDiskMark(int x, int y) {
+    private void setupCrystalDiskMark(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -610,17 +626,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for CrystalDiskMark.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 9.0.2",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for CrystalDiskMark.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/CrystalDiskMark.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/CrystalDiskMark.png", page);
 
         // Adds a button to launch CrystalDiskMark.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch CrystalDiskMark",
@@ -632,13 +648,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("CrystalDiskMark.7z", "\\CrystalDiskMark.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Autoruns section.
      */
-    private void setupAutoruns(int x, int y) {
+    private void setupAutoruns(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -647,17 +663,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Autoruns.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 14.11",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Autoruns.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/Autoruns.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/Autoruns.png", page);
 
         // Adds a button to launch Autoruns.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch Autoruns",
@@ -681,13 +697,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("Autoruns.7z", "\\Autoruns.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Process Explorer section.
      */
-    private void setupProcessExplorer(int x, int y) {
+    private void setupProcessExplorer(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -696,17 +712,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Process Explorer.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 17.06",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Process Explorer.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/ProcessExplorer.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/ProcessExplorer.png", page);
 
         // Adds a button to launch Process Explorer.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch Process Explorer",
@@ -724,13 +740,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("ProcessExplorer.7z", "\\ProcessExplorer.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Process Monitor section.
      */
-    private void setupProcessMonitor(int x, int y) {
+    private void setupProcessMonitor(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -739,17 +755,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Process Monitor.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 4.01",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Process Monitor.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/ProcessMonitor.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/ProcessMonitor.png", page);
 
         // Adds a button to launch Process Monitor.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch Process Monitor",
@@ -764,13 +780,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("ProcessMonitor.7z", "\\ProcessMonitor.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the TCPView section.
      */
-    private void setupTCPView(int x, int y) {
+    private void setupTCPView(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -779,17 +795,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for TCPView.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 4.19",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for TCPView.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/TCPView.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/TCPView.png", page);
 
         // Adds a button to launch TCPView.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch TCPView",
@@ -801,13 +817,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("TCPView.7z", "\\TCPView.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the WinMTR section.
      */
-    private void setupWinMTR(int x, int y) {
+    private void setupWinMTR(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -816,17 +832,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for WinMTR.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 1.0.0",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for WinMTR.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/WinMTR.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/WinMTR.png", page);
 
         // Adds a button to launch WinMTR.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch WinMTR",
@@ -838,13 +854,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("WinMTR.7z", "\\WinMTR.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the RegScanner section.
      */
-    private void setupRegScanner(int x, int y) {
+    private void setupRegScanner(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -853,17 +869,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for RegScanner.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 2.75",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for RegScanner.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/RegScanner.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/RegScanner.png", page);
 
         // Adds a button to launch RegScanner.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch RegScanner",
@@ -875,13 +891,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("RegScanner.7z", "\\RegScanner.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the USBDeview section.
      */
-    private void setupUSBDeview(int x, int y) {
+    private void setupUSBDeview(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -890,17 +906,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for USBDeview.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 3.07",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for USBDeview.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/USBDeview.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/USBDeview.png", page);
 
         // Adds a button to launch USBDeview.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch USBDeview",
@@ -912,13 +928,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("USBDeview.7z", "\\USBDeview.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the USBLogView section.
      */
-    private void setupUSBLogView(int x, int y) {
+    private void setupUSBLogView(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -927,17 +943,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for USBLogView.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 1.26",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for USBLogView.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/USBLogView.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/USBLogView.png", page);
 
         // Adds a button to launch USBLogView.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch USBLogView",
@@ -949,13 +965,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("USBLogView.7z", "\\USBLogView.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the BlueScreenView section.
      */
-    private void setupBlueScreenView(int x, int y) {
+    private void setupBlueScreenView(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -964,17 +980,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for BlueScreenView.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 1.55",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for BlueScreenView.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/BlueScreenView.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/BlueScreenView.png", page);
 
         // Adds a button to launch BlueScreenView.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch BlueScreenView",
@@ -986,13 +1002,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("BlueScreenView.7z", "\\BlueScreenView.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Everything section.
      */
-    private void setupEverything(int x, int y) {
+    private void setupEverything(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1001,17 +1017,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Everything.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 1.5.0.1404a",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Everything.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/Everything.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/Everything.png", page);
 
         // Adds a button to launch Everything.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch Everything",
@@ -1023,13 +1039,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("Everything.7z", "\\Everything-RepairKit.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the NVCleanstall section.
      */
-    private void setupNVCleanstall(int x, int y) {
+    private void setupNVCleanstall(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1038,17 +1054,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for NVCleanstall.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 1.19.0",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for NVCleanstall.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/NVCleanstall.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/NVCleanstall.png", page);
 
         // Adds a button to launch NVCleanstall.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch NVCleanstall",
@@ -1066,13 +1082,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("NVCleanstall.7z", "\\NVCleanstall.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Display Driver Uninstaller (DDU) section.
      */
-    private void setupDDU(int x, int y) {
+    private void setupDDU(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1081,17 +1097,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for DDU.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 18.1.4.1",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for DDU.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/DDU.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/DDU.png", page);
 
         // Adds a button to launch DDU.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch DDU",
@@ -1103,13 +1119,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("DDU.7z", "\\Display Driver Uninstaller.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Recuva section.
      */
-    private void setupRecuva(int x, int y) {
+    private void setupRecuva(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1118,17 +1134,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Recuva.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 1.54.120",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Recuva.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/Recuva.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/Recuva.png", page);
 
         // Adds a button to launch Recuva.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch Recuva",
@@ -1140,13 +1156,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("Recuva.7z", "\\recuva.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the DiskGenius section.
      */
-    private void setupDiskGenius(int x, int y) {
+    private void setupDiskGenius(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1155,17 +1171,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for DiskGenius.
         @NotNull JLabel description = SwingUtil.createLabel("Version: 6.1.1.1742",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for DiskGenius.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/DiskGenius.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/DiskGenius.png", page);
 
         // Adds a button to launch DiskGenius.
         @NotNull JButton appButton = SwingUtil.createActionButton("Launch DiskGenius",
@@ -1177,13 +1193,13 @@ public class UsefulPrograms extends JPanel {
                     SwingUtil.launchApplication("DiskGenius.7z", "\\DiskGenius.exe", true, path);
                 }
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the 7-Zip section.
      */
-    private void setup7Zip(int x, int y) {
+    private void setup7Zip(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1192,17 +1208,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for 7-Zip.
         @NotNull JLabel description = SwingUtil.createLabel("Price: Free",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for 7-Zip.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/7-Zip.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/7-Zip.png", page);
 
         // Adds a button to launch 7-Zip.
         @NotNull JButton appButton = SwingUtil.createActionButton("Visit 7-Zip",
@@ -1211,13 +1227,13 @@ public class UsefulPrograms extends JPanel {
                 new Color(200, 200, 200),
                 () -> CommandUtil.runCommand("start https://7-zip.org/download.html", true)
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Notepad++ section.
      */
-    private void setupNotepadPlusPlus(int x, int y) {
+    private void setupNotepadPlusPlus(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1226,17 +1242,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Notepad++.
         @NotNull JLabel description = SwingUtil.createLabel("Price: Free",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Notepad++.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/Notepad++.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/Notepad++.png", page);
 
         // Adds a button to launch Notepad++.
         @NotNull JButton appButton = SwingUtil.createActionButton("Visit Notepad++",
@@ -1245,13 +1261,13 @@ public class UsefulPrograms extends JPanel {
                 new Color(200, 200, 200),
                 () -> CommandUtil.runCommand("start https://notepad-plus-plus.org/downloads", true)
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Bitwarden section.
      */
-    private void setupBitwarden(int x, int y) {
+    private void setupBitwarden(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1260,17 +1276,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Bitwarden.
         @NotNull JLabel description = SwingUtil.createLabel("Price: Free",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Bitwarden.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/Bitwarden.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/Bitwarden.png", page);
 
         // Adds a button to launch Bitwarden.
         @NotNull JButton appButton = SwingUtil.createActionButton("Visit Bitwarden",
@@ -1279,13 +1295,13 @@ public class UsefulPrograms extends JPanel {
                 new Color(200, 200, 200),
                 () -> CommandUtil.runCommand("start https://bitwarden.com/download/#downloads-web-browser", true)
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Sophos Home section.
      */
-    private void setupSophosHome(int x, int y) {
+    private void setupSophosHome(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1294,17 +1310,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Sophos Home.
         @NotNull JLabel description = SwingUtil.createLabel("Price: $5/month",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Sophos Home.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/Sophos.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/Sophos.png", page);
 
         // Adds a button to launch Sophos Home.
         @NotNull JButton appButton = SwingUtil.createActionButton("Visit Sophos Home",
@@ -1313,13 +1329,13 @@ public class UsefulPrograms extends JPanel {
                 new Color(200, 200, 200),
                 () -> CommandUtil.runCommand("start https://home.sophos.com", true)
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the uBlock Origin section.
      */
-    private void setupUBlockOrigin(int x, int y) {
+    private void setupUBlockOrigin(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1328,17 +1344,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for uBlock Origin.
         @NotNull JLabel description = SwingUtil.createLabel("Price: Free",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for uBlock Origin.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/uBlockOrigin.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/uBlockOrigin.png", page);
 
         // Adds a button to launch uBlock Origin.
         @NotNull JButton appButton = SwingUtil.createActionButton("Visit uBlock Origin",
@@ -1347,13 +1363,13 @@ public class UsefulPrograms extends JPanel {
                 new Color(200, 200, 200),
                 () -> CommandUtil.runCommand("start https://ublockorigin.com", true)
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Osprey section.
      */
-    private void setupOsprey(int x, int y) {
+    private void setupOsprey(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1362,17 +1378,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Osprey.
         @NotNull JLabel description = SwingUtil.createLabel("Price: Free",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Osprey.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/Osprey.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/Osprey.png", page);
 
         // Adds a button to launch Osprey.
         @NotNull JButton appButton = SwingUtil.createActionButton("Visit Osprey",
@@ -1381,13 +1397,13 @@ public class UsefulPrograms extends JPanel {
                 new Color(200, 200, 200),
                 () -> CommandUtil.runCommand("start https://osprey.ac", true)
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the Twinkle Tray section.
      */
-    private void setupTwinkleTray(int x, int y) {
+    private void setupTwinkleTray(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1396,17 +1412,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for Twinkle Tray.
         @NotNull JLabel description = SwingUtil.createLabel("Price: Free",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for Twinkle Tray.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/TwinkleTray.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/TwinkleTray.png", page);
 
         // Adds a button to launch Twinkle Tray.
         @NotNull JButton appButton = SwingUtil.createActionButton("Visit Twinkle Tray",
@@ -1415,13 +1431,13 @@ public class UsefulPrograms extends JPanel {
                 new Color(200, 200, 200),
                 () -> CommandUtil.runCommand("start https://twinkletray.com", true)
         );
-        add(appButton);
+        page.add(appButton);
     }
 
     /**
      * Sets up the FanControl section.
      */
-    private void setupFanControl(int x, int y) {
+    private void setupFanControl(@NotNull JPanel page, int x, int y) {
         int baseWidth = slotX(x);
         int baseHeight = slotY(y);
 
@@ -1430,17 +1446,17 @@ public class UsefulPrograms extends JPanel {
                 new Rectangle(baseWidth + 43, baseHeight, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 16)
         );
-        add(title);
+        page.add(title);
 
         // Adds a description label for FanControl.
         @NotNull JLabel description = SwingUtil.createLabel("Price: Free",
                 new Rectangle(baseWidth + 43, baseHeight + 20, 200, 30),
                 new Font(ConstantUtil.ARIAL, Font.BOLD, 12)
         );
-        add(description);
+        page.add(description);
 
         // Adds an icon for FanControl.
-        SwingUtil.setupAppIcon(baseHeight, baseWidth, FileUtil.getImageIcon("icons/FanControl.png"), this);
+        SwingUtil.setupAppIcon(baseHeight, baseWidth, "icons/FanControl.png", page);
 
         // Adds a button to launch FanControl.
         @NotNull JButton appButton = SwingUtil.createActionButton("Visit FanControl",
@@ -1449,6 +1465,6 @@ public class UsefulPrograms extends JPanel {
                 new Color(200, 200, 200),
                 () -> CommandUtil.runCommand("start https://getfancontrol.com", true)
         );
-        add(appButton);
+        page.add(appButton);
     }
 }
@@ -18,20 +18,23 @@
 package net.foulest.repairkit.util;
 
 import lombok.AccessLevel;
-import lombok.Cleanup;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.backend.Backends;
+import net.foulest.repairkit.util.jfr.CommandExecutedEvent;
+import net.foulest.repairkit.util.journal.RunJournal;
+import net.foulest.repairkit.util.metrics.Counter;
+import net.foulest.repairkit.util.metrics.MetricsRegistry;
+import net.foulest.repairkit.util.metrics.Timer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Utility class for running commands.
@@ -42,6 +45,9 @@ import java.util.concurrent.CompletableFuture;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CommandUtil {
 
+    private static final Counter COMMANDS_SPAWNED = MetricsRegistry.counter("commands.spawned");
+    private static final Timer COMMAND_DURATION = MetricsRegistry.timer("commands.duration");
+
     /**
      * Runs a command.
      *
@@ -49,32 +55,17 @@ public final class CommandUtil {
      * @param async   Whether to run the command asynchronously.
      */
     public static void runCommand(String command, boolean async) {
-        @NotNull Runnable commandRunner = () -> {
-            try {
-                @NotNull ProcessBuilder processBuilder = new ProcessBuilder("cmd.exe", "/c", command);
-                processBuilder.redirectErrorStream(true);
-                @NotNull Process process = processBuilder.start();
-
-                process.onExit().thenRun(() -> {
-                    try {
-                        process.waitFor();
-                    } catch (InterruptedException ex) {
-                        DebugUtil.warn("Failed to wait for command: " + command, ex);
-                        Thread.currentThread().interrupt();
-                    }
-                }).join();
-            } catch (IOException ex) {
-                DebugUtil.warn("Failed to run command: " + command, ex);
-            }
-        };
+        execute(command, async, null);
+    }
 
-        if (async) {
-            DebugUtil.debug("Running command async: " + command);
-            CompletableFuture.runAsync(commandRunner);
-        } else {
-            DebugUtil.debug("Running command: " + command);
-            CompletableFuture.runAsync(commandRunner).join();
-        }
+    /**
+     * Runs a command and waits for it to finish.
+     *
+     * @param command Command to run.
+     * @return The command's exit code, or -1 if it couldn't be run.
+     */
+    public static int runCommandForExitCode(String command) {
+        return execute(command, false, null);
     }
 
     /**
@@ -86,49 +77,55 @@ public final class CommandUtil {
      */
     static void runCommand(String command, boolean async,
                            @NotNull LineConsumer lineConsumer) {
-        @NotNull Runnable commandRunner = () -> {
+        execute(command, async, lineConsumer);
+    }
+
+    /**
+     * Runs a command with the current command backend.
+     *
+     * @param command      Command to run.
+     * @param async        Whether to run the command asynchronously.
+     * @param lineConsumer Consumer to consume the output of the command, or null to ignore it.
+     * @return The command's exit code, -1 if it couldn't be run, or 0 if it was run asynchronously.
+     */
+    private static int execute(String command, boolean async, @Nullable LineConsumer lineConsumer) {
+        @NotNull Supplier<Integer> commandRunner = () -> {
+            @NotNull CommandExecutedEvent event = new CommandExecutedEvent();
+            event.begin();
+            long startNanos = System.nanoTime();
+            long[] outputLines = new long[1];
+            int exitCode = -1;
+
             try {
-                @NotNull ProcessBuilder processBuilder = new ProcessBuilder("cmd.exe", "/c", command);
-                processBuilder.redirectErrorStream(true);
-                @NotNull Process process = processBuilder.start();
-
-                @Cleanup InputStream inputStream = process.getInputStream();
-
-                try (@NotNull BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-                    String line;
-
-                    while (true) {
-                        line = bufferedReader.readLine();
-
-                        if (line == null) {
-                            break;
-                        }
-
-                        lineConsumer.consume(line);
-                    }
-                }
-
-                process.onExit().thenRun(() -> {
-                    try {
-                        process.waitFor();
-                    } catch (InterruptedException ex) {
-                        DebugUtil.warn("Failed to wait for command: " + command, ex);
-                        Thread.currentThread().interrupt();
-                    }
-                }).join();
+                exitCode = Backends.getCommandBackend().run(command, lineConsumer == null ? null : line -> {
+                    lineConsumer.consume(line);
+                    outputLines[0]++;
+                });
+
+                event.setExitCode(exitCode);
+                event.setOutputLines(outputLines[0]);
             } catch (IOException ex) {
-                DebugUtil.warn("Failed to run command: " + command, ex);
-                Thread.currentThread().interrupt();
+                DebugUtil.warn("Failed to run command: {}", command, ex);
+            } finally {
+                event.setCommand(command);
+                event.setAsync(async);
+                event.commit();
+                COMMAND_DURATION.recordSince(startNanos);
             }
+            return exitCode;
         };
 
+        RunJournal.recordCommand();
+        COMMANDS_SPAWNED.increment();
+
         if (async) {
-            DebugUtil.debug("Running command async: " + command);
-            CompletableFuture.runAsync(commandRunner);
-        } else {
-            DebugUtil.debug("Running command: " + command);
-            CompletableFuture.runAsync(commandRunner).join();
+            DebugUtil.debug("Running command async: {}", command);
+            CompletableFuture.supplyAsync(commandRunner);
+            return 0;
         }
+
+        DebugUtil.debug("Running command: {}", command);
+        return CompletableFuture.supplyAsync(commandRunner).join();
     }
 
     /**
@@ -167,7 +164,7 @@ public final class CommandUtil {
             output.add(line);
 
             if (display && !line.trim().isEmpty()) {
-                DebugUtil.debug("Command output: " + line);
+                DebugUtil.debug("Command output: {}", line);
             }
         });
         return output.isEmpty() ? Collections.singletonList("") : output;
@@ -188,7 +185,7 @@ public final class CommandUtil {
             output.add(line);
 
             if (display && !line.trim().isEmpty()) {
-                DebugUtil.debug("Command output: " + line);
+                DebugUtil.debug("Command output: {}", line);
             }
         });
         return output.isEmpty() ? Collections.singletonList("") : output;
@@ -20,21 +20,19 @@ package net.foulest.repairkit.util;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.log.AsyncLogAppender;
+import net.foulest.repairkit.util.log.LogLevel;
+import net.foulest.repairkit.util.log.LogMessage;
+import net.foulest.repairkit.util.log.LogRotator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
 import java.util.Locale;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
  * Utility class for debugging.
@@ -45,70 +43,285 @@ import java.util.concurrent.locks.ReentrantLock;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DebugUtil {
 
-    private static final Path logFile = Paths.get(System.getenv("TEMP") + "\\RepairKit.log");
-    private static final Lock lock = new ReentrantLock();
+    private static final Path logFile = Paths.get(FileUtil.getTempPath(), "RepairKit.log");
+
+    // Logs of previous runs are kept in this folder, compressed with gzip
+    private static final Path logArchiveFolder = Paths.get(FileUtil.getTempPath(), "RepairKit-logs");
+
+    // The log file is rotated past 10 MB; up to 10 rotated parts are kept per run, for the last 10 runs
+    private static final long MAX_LOG_BYTES = 10L * 1024 * 1024;
+    private static final int MAX_LOG_PARTS = 10;
+    private static final int MAX_LOG_RUNS = 10;
+
+    private static final AsyncLogAppender appender = createAppender();
+
+    // The least severe level that's printed; set with -Drepairkit.logLevel=<level>
+    private static volatile @NotNull LogLevel threshold
+            = LogLevel.parse(System.getProperty("repairkit.logLevel"), LogLevel.DEBUG);
+
+    /**
+     * Gets the least severe level that's printed.
+     *
+     * @return The log level threshold.
+     */
+    public static @NotNull LogLevel getLevel() {
+        return threshold;
+    }
+
+    /**
+     * Sets the least severe level that's printed.
+     *
+     * @param level The new log level threshold.
+     */
+    public static void setLevel(@NotNull LogLevel level) {
+        threshold = level;
+    }
+
+    /**
+     * Checks whether messages of a level are printed.
+     * Use this to guard logging that needs work to compute its arguments.
+     *
+     * @param level The level to check.
+     * @return Whether messages of the level are printed.
+     */
+    public static boolean isEnabled(@NotNull LogLevel level) {
+        return level.isEnabledAt(threshold);
+    }
+
+    /**
+     * Prints a trace message to a log file.
+     *
+     * @param message The message to print.
+     */
+    public static void trace(@NotNull String message) {
+        log(LogLevel.TRACE, message);
+    }
+
+    /**
+     * Prints a trace message to a log file, substituting an argument for its {@code {}} placeholder.
+     *
+     * @param pattern  The message pattern.
+     * @param argument The argument to substitute.
+     */
+    public static void trace(@NotNull String pattern, @Nullable Object argument) {
+        if (isEnabled(LogLevel.TRACE)) {
+            appender.append(LogMessage.of(pattern, argument));
+        }
+    }
+
+    /**
+     * Prints a trace message to a log file, substituting arguments for its {@code {}} placeholders.
+     *
+     * @param pattern The message pattern.
+     * @param first   The first argument to substitute.
+     * @param second  The second argument to substitute.
+     */
+    public static void trace(@NotNull String pattern, @Nullable Object first, @Nullable Object second) {
+        if (isEnabled(LogLevel.TRACE)) {
+            appender.append(LogMessage.of(pattern, first, second));
+        }
+    }
 
     /**
      * Prints a debug message to a log file.
+     * The message is written on a background thread; see {@link #flush()}.
      *
      * @param message The message to print.
      */
     public static void debug(@NotNull String message) {
-        // Writes the message to the console.
-        System.out.println(message);
-
-        @NotNull String timeStampedMessage = "[" + LocalTime.now() + "] " + message + "\n";
-
-        // Writes the message to the log file.
-        lock.lock();
-        try {
-            Files.writeString(logFile, timeStampedMessage, StandardOpenOption.APPEND);
-        } catch (IOException ex) {
-            ex.printStackTrace();
-        } finally {
-            lock.unlock();
+        log(LogLevel.DEBUG, message);
+    }
+
+    /**
+     * Prints a debug message to a log file, substituting an argument for its {@code {}} placeholder.
+     * The message is only formatted if debug messages are printed.
+     *
+     * @param pattern  The message pattern.
+     * @param argument The argument to substitute.
+     */
+    public static void debug(@NotNull String pattern, @Nullable Object argument) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            appender.append(LogMessage.of(pattern, argument));
         }
     }
 
+    /**
+     * Prints a debug message to a log file, substituting arguments for its {@code {}} placeholders.
+     * The message is only formatted if debug messages are printed.
+     *
+     * @param pattern The message pattern.
+     * @param first   The first argument to substitute.
+     * @param second  The second argument to substitute.
+     */
+    public static void debug(@NotNull String pattern, @Nullable Object first, @Nullable Object second) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            appender.append(LogMessage.of(pattern, first, second));
+        }
+    }
+
+    /**
+     * Prints a debug message to a log file, substituting arguments for its {@code {}} placeholders.
+     * The message is only formatted if debug messages are printed.
+     *
+     * @param pattern The message pattern.
+     * @param first   The first argument to substitute.
+     * @param second  The second argument to substitute.
+     * @param third   The third argument to substitute.
+     */
+    public static void debug(@NotNull String pattern, @Nullable Object first,
+                             @Nullable Object second, @Nullable Object third) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            appender.append(LogMessage.of(pattern, first, second, third));
+        }
+    }
+
+    /**
+     * Prints a debug message to a log file.
+     * The message is only built if debug messages are printed.
+     *
+     * @param supplier The supplier of the message to print.
+     */
+    public static void debug(@NotNull Supplier<String> supplier) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            appender.append(supplier.get());
+        }
+    }
+
+    /**
+     * Prints an info message to a log file.
+     *
+     * @param message The message to print.
+     */
+    public static void info(@NotNull String message) {
+        log(LogLevel.INFO, message);
+    }
+
+    /**
+     * Prints an info message to a log file, substituting an argument for its {@code {}} placeholder.
+     * The message is only formatted if info messages are printed.
+     *
+     * @param pattern  The message pattern.
+     * @param argument The argument to substitute.
+     */
+    public static void info(@NotNull String pattern, @Nullable Object argument) {
+        if (isEnabled(LogLevel.INFO)) {
+            appender.append(LogMessage.of(pattern, argument));
+        }
+    }
+
+    /**
+     * Prints an info message to a log file, substituting arguments for its {@code {}} placeholders.
+     * The message is only formatted if info messages are printed.
+     *
+     * @param pattern The message pattern.
+     * @param first   The first argument to substitute.
+     * @param second  The second argument to substitute.
+     */
+    public static void info(@NotNull String pattern, @Nullable Object first, @Nullable Object second) {
+        if (isEnabled(LogLevel.INFO)) {
+            appender.append(LogMessage.of(pattern, first, second));
+        }
+    }
+
+    /**
+     * Prints an info message to a log file, substituting arguments for its {@code {}} placeholders.
+     * The message is only formatted if info messages are printed.
+     *
+     * @param pattern The message pattern.
+     * @param first   The first argument to substitute.
+     * @param second  The second argument to substitute.
+     * @param third   The third argument to substitute.
+     */
+    public static void info(@NotNull String pattern, @Nullable Object first,
+                            @Nullable Object second, @Nullable Object third) {
+        if (isEnabled(LogLevel.INFO)) {
+            appender.append(LogMessage.of(pattern, first, second, third));
+        }
+    }
+
+    /**
+     * Waits until every message printed so far has been written to the log file.
+     */
+    public static void flush() {
+        appender.flush();
+    }
+
+    /**
+     * Prints a message to a log file if its level is enabled.
+     *
+     * @param level   The level of the message.
+     * @param message The message to print.
+     */
+    private static void log(@NotNull LogLevel level, @NotNull Object message) {
+        if (isEnabled(level)) {
+            appender.append(message);
+        }
+    }
+
+    /**
+     * Creates and starts the log appender.
+     *
+     * @return The log appender.
+     */
+    private static @NotNull AsyncLogAppender createAppender() {
+        @NotNull LogRotator rotator = new LogRotator(logFile, logArchiveFolder, MAX_LOG_BYTES, MAX_LOG_PARTS, MAX_LOG_RUNS);
+        @NotNull AsyncLogAppender logAppender = new AsyncLogAppender(logFile, System.out, 8192, rotator);
+        logAppender.start();
+        return logAppender;
+    }
+
     /**
      * Prints a warning message to a log file.
+     * The exception's stack trace is formatted on the log writer thread.
      *
      * @param message The message to print.
      * @param ex      The exception to print.
      */
     public static void warn(@NotNull String message, @NotNull Throwable ex) {
-        @Nullable Throwable cause = ex.getCause();
-        String exMessage = ex.getMessage();
-        String causeMessage = cause == null ? "" : cause.getMessage();
-        StackTraceElement[] stackTrace = ex.getStackTrace();
+        if (isEnabled(LogLevel.WARN)) {
+            appender.append(LogMessage.warning(message, ex));
+        }
+    }
+
+    /**
+     * Prints a warning message to a log file, substituting an argument for its {@code {}} placeholder.
+     * The message and the exception's stack trace are formatted on the log writer thread.
+     *
+     * @param pattern  The message pattern.
+     * @param argument The argument to substitute.
+     * @param ex       The exception to print.
+     */
+    public static void warn(@NotNull String pattern, @Nullable Object argument, @NotNull Throwable ex) {
+        if (isEnabled(LogLevel.WARN)) {
+            appender.append(LogMessage.warning(pattern, ex, argument));
+        }
+    }
 
-        debug("[WARNING] " + message
-                + (exMessage == null ? "" : " (Message: " + exMessage + ")")
-                + " (Cause: " + causeMessage + ")"
-                + (stackTrace == null ? "" : " (Stack Trace: " + Arrays.toString(stackTrace) + ")")
-        );
+    /**
+     * Prints a warning message to a log file, substituting arguments for its {@code {}} placeholders.
+     * The message and the exception's stack trace are formatted on the log writer thread.
+     *
+     * @param pattern The message pattern.
+     * @param first   The first argument to substitute.
+     * @param second  The second argument to substitute.
+     * @param ex      The exception to print.
+     */
+    public static void warn(@NotNull String pattern, @Nullable Object first,
+                            @Nullable Object second, @NotNull Throwable ex) {
+        if (isEnabled(LogLevel.WARN)) {
+            appender.append(LogMessage.warning(pattern, ex, first, second));
+        }
     }
 
     /**
      * Creates a log file in the user's temp directory.
+     * The previous run's log file was already archived when the log appender started.
      *
      * @param args The command line arguments.
      */
     public static void createLogFile(String[] args) {
-        try {
-            // Deletes the old log file.
-            CommandUtil.runCommand("del /f /q \"" + System.getenv("TEMP") + "\\RepairKit.log\"", false);
-
-            // Creates a new log file.
-            if (!Files.exists(logFile)) {
-                Files.createFile(logFile);
-            }
-
-            // Writes the initial message to the log file.
-            printSystemInfo(args);
-        } catch (IOException ex) {
-            warn("Failed to create log file", ex);
-        }
+        // Writes the initial message to the log file.
+        printSystemInfo(args);
     }
 
     /**
@@ -136,7 +349,7 @@ public final class DebugUtil {
 
         debug("- Java Home: " + System.getProperty("java.home"));
         debug("- User Directory: " + System.getProperty("user.dir"));
-        debug("- Temp Directory: " + System.getenv("TEMP"));
+        debug("- Temp Directory: " + FileUtil.getTempPath());
         debug("");
     }
 }
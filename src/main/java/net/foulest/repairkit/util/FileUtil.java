@@ -21,21 +21,32 @@ import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import net.foulest.repairkit.RepairKit;
+import net.foulest.repairkit.util.extract.ResourcePack;
+import net.foulest.repairkit.util.extract.SevenZipExtractor;
+import net.foulest.repairkit.util.extract.ZipExtractor;
+import net.foulest.repairkit.util.jfr.ArchiveExtractedEvent;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Utility class for file operations.
@@ -49,7 +60,51 @@ public final class FileUtil {
     /**
      * The temporary directory for the program.
      */
-    public static final File tempDirectory = new File(System.getenv("TEMP") + "\\RepairKit");
+    public static final File tempDirectory = new File(getTempPath(), "RepairKit");
+
+    /**
+     * The directory for data kept between runs of the program.
+     */
+    public static final File dataDirectory = new File(getDataPath(), "RepairKit");
+
+    // The size of each chunk transferred when saving files
+    private static final int TRANSFER_BUFFER_SIZE = 1024 * 1024;
+
+    // The sizes and hashes of resources, computed once per run
+    private static final Map<String, ResourceDigest> RESOURCE_DIGESTS = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the path of the user's temp directory.
+     * Falls back to Java's temp directory where %TEMP% isn't set, such as when running benchmarks on Linux.
+     *
+     * @return The path of the temp directory.
+     */
+    public static @NotNull String getTempPath() {
+        @Nullable String temp = System.getenv("TEMP");
+        return temp == null ? System.getProperty("java.io.tmpdir") : temp;
+    }
+
+    /**
+     * Gets the path of the user's local application data directory.
+     * Falls back to the user's home directory where %LOCALAPPDATA% isn't set.
+     *
+     * @return The path of the local application data directory.
+     */
+    public static @NotNull String getDataPath() {
+        @Nullable String localAppData = System.getenv("LOCALAPPDATA");
+        return localAppData == null ? System.getProperty("user.home") : localAppData;
+    }
+
+    /**
+     * Gets the config directory.
+     * Defaults to the {@code config} folder in the working directory; set with -Drepairkit.configDir=<path>.
+     *
+     * @return The config directory.
+     */
+    public static @NotNull File getConfigDirectory() {
+        @Nullable String configDir = System.getProperty("repairkit.configDir");
+        return configDir == null ? new File(System.getProperty("user.dir"), "config") : new File(configDir);
+    }
 
     /**
      * Unzips a file.
@@ -57,100 +112,306 @@ public final class FileUtil {
      * @param fileZip  The file to unzip.
      * @param fileDest The destination to unzip the file to.
      */
-    @SuppressWarnings("ThrowCaughtLocally")
     public static void unzipFile(String fileZip, String fileDest) {
-        fileZip = fileZip.replace("%temp%", System.getenv("TEMP"));
-        fileDest = fileDest.replace("%temp%", System.getenv("TEMP"));
+        fileZip = fileZip.replace("%temp%", getTempPath());
+        fileDest = fileDest.replace("%temp%", getTempPath());
 
-        DebugUtil.debug("Unzipping file: " + fileZip + " to " + fileDest);
+        DebugUtil.debug("Unzipping file: {} to {}", fileZip, fileDest);
 
-        if (fileZip.endsWith(".zip")) {
-            try {
-                @NotNull Path sourcePath = Paths.get(fileZip);
-                @NotNull Path targetPath = Paths.get(fileDest);
-
-                try (@NotNull ZipInputStream zis = new ZipInputStream(Files.newInputStream(sourcePath))) {
-                    @Nullable ZipEntry zipEntry = zis.getNextEntry();
-
-                    while (zipEntry != null) {
-                        @NotNull String entryName = zipEntry.getName();
-                        DebugUtil.debug("Opening zip entry: " + entryName);
-                        @NotNull Path newPath = targetPath.resolve(entryName).normalize();
-
-                        // Check for path traversal vulnerabilities
-                        if (!newPath.startsWith(targetPath)) {
-                            throw new IOException("Bad zip entry (potential path traversal): " + entryName);
-                        }
-
-                        if (zipEntry.isDirectory()) {
-                            DebugUtil.debug("Creating directory: " + newPath);
-                            Files.createDirectories(newPath);
-                        } else {
-                            DebugUtil.debug("Creating file: " + newPath);
-                            Path parent = newPath.getParent();
-                            Files.createDirectories(parent);
-
-                            DebugUtil.debug("Copying file: " + newPath);
-                            Files.copy(zis, newPath, StandardCopyOption.REPLACE_EXISTING);
-                        }
-
-                        DebugUtil.debug("Closing zip entry: " + entryName);
-                        zipEntry = zis.getNextEntry();
+        @NotNull ArchiveExtractedEvent event = new ArchiveExtractedEvent();
+        event.begin();
+
+        try {
+            if (fileZip.endsWith(".zip")) {
+                event.setMethod("zip");
+
+                try {
+                    ZipExtractor.extract(Paths.get(fileZip), Paths.get(fileDest));
+                    event.setSucceeded(true);
+                } catch (IOException ex) {
+                    DebugUtil.warn("Failed to unzip file: {} to {}", fileZip, fileDest, ex);
+                }
+            } else {
+                event.setMethod("7z");
+
+                // Extracts the archive in-process, falling back to 7-Zip for unsupported compression methods.
+                try {
+                    if (SevenZipExtractor.extract(Paths.get(fileZip), Paths.get(fileDest))) {
+                        event.setSucceeded(true);
+                        return;
                     }
+                } catch (IOException ex) {
+                    DebugUtil.warn("Failed to unzip file: {} to {}", fileZip, fileDest, ex);
+                    return;
                 }
-            } catch (IOException ex) {
-                DebugUtil.warn("Failed to unzip file: " + fileZip + " to " + fileDest, ex);
-            }
-        } else {
-            try (@Nullable InputStream input = RepairKit.class.getClassLoader().getResourceAsStream("bin/7zr.exe")) {
-                if (input == null) {
+
+                event.setMethod("7zr");
+                boolean saved;
+
+                // Extractions of different archives can run at once, so 7-Zip is only saved by one of them.
+                synchronized (FileUtil.class) {
+                    saved = saveResource("bin/7zr.exe", tempDirectory + "\\7zr.exe");
+                }
+
+                if (!saved) {
                     JOptionPane.showMessageDialog(null,
                             "Failed to load 7-Zip file.",
                             "Error", JOptionPane.ERROR_MESSAGE);
                     return;
                 }
 
-                saveFile(input, tempDirectory + "\\7zr.exe", true);
                 CommandUtil.getCommandOutput("\"" + tempDirectory + "\\7zr.exe\" x \"" + fileZip + "\"" + " -y -o\"" + fileDest, false, false);
-            } catch (IOException ex) {
-                DebugUtil.warn("Failed to unzip file: " + fileZip + " to " + fileDest, ex);
+                event.setSucceeded(true);
+            }
+        } finally {
+            if (event.shouldCommit()) {
+                event.setArchive(fileZip);
+                event.setDestination(fileDest);
+                event.setArchiveSize(new File(fileZip).length());
+                event.commit();
             }
         }
     }
 
     /**
      * Saves a file.
+     * The file is written to a temporary file first and then moved into place,
+     * so the saved file is never left partially written.
      *
      * @param input          The input stream to save.
      * @param path           The path to save the file to.
      * @param replaceOldFile Whether to replace the old file.
      */
     public static void saveFile(@NotNull InputStream input, @NotNull String path, boolean replaceOldFile) {
-        DebugUtil.debug("Saving file: " + path);
+        DebugUtil.debug("Saving file: {}", path);
         @NotNull Path savedFilePath = Paths.get(path);
 
+        if (!replaceOldFile && Files.exists(savedFilePath)) {
+            return;
+        }
+
         try {
-            if (Files.exists(savedFilePath)) {
-                if (replaceOldFile) {
-                    DebugUtil.debug("Deleting old file: " + savedFilePath);
-                    Files.delete(savedFilePath);
-                } else {
-                    return;
-                }
+            writeAtomically(input, savedFilePath);
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to save file: {}", path, ex);
+        }
+    }
+
+    /**
+     * Saves a resource to a file, skipping the write if the file already has the same contents.
+     *
+     * @param resource The path of the resource to save.
+     * @param path     The path to save the file to.
+     * @return Whether the file now has the resource's contents.
+     */
+    public static boolean saveResource(@NotNull String resource, @NotNull String path) {
+        @Nullable ResourceDigest digest = getResourceDigest(resource);
+
+        if (digest == null) {
+            return false;
+        }
+
+        @NotNull Path savedFilePath = Paths.get(path);
+
+        // Skips the write if the file is already identical to the resource.
+        try {
+            if (Files.isRegularFile(savedFilePath)
+                    && Files.size(savedFilePath) == digest.getSize()
+                    && digest.getSha256().equals(hashFile(savedFilePath))) {
+                DebugUtil.debug("Skipping unchanged file: {}", path);
+                return true;
+            }
+        } catch (IOException ex) {
+            DebugUtil.debug("Failed to compare file, replacing it: {}", path);
+        }
+
+        try (@Nullable InputStream input = ResourcePack.openResource(resource)) {
+            if (input == null) {
+                return false;
+            }
+
+            writeAtomically(input, savedFilePath);
+            return true;
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to save file: {}", path, ex);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the SHA-256 hash of a resource.
+     * Hashes are computed once per run, as resources can't change while running.
+     *
+     * @param resource The path of the resource.
+     * @return The hex-encoded hash, or null if the resource couldn't be read.
+     */
+    public static @Nullable String getResourceHash(@NotNull String resource) {
+        @Nullable ResourceDigest digest = getResourceDigest(resource);
+        return digest == null ? null : digest.getSha256();
+    }
+
+    /**
+     * Gets the size and SHA-256 hash of a resource, computing them on first use.
+     *
+     * @param resource The path of the resource.
+     * @return The resource's digest, or null if the resource couldn't be read.
+     */
+    private static @Nullable ResourceDigest getResourceDigest(@NotNull String resource) {
+        @Nullable ResourceDigest cached = RESOURCE_DIGESTS.get(resource);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        // Resources in the resource pack have their size and hash in its index.
+        ResourcePack.@Nullable Entry entry = ResourcePack.findResource(resource);
+
+        if (entry != null) {
+            @NotNull ResourceDigest digest = new ResourceDigest(entry.getSize(), entry.getSha256());
+            RESOURCE_DIGESTS.put(resource, digest);
+            return digest;
+        }
+
+        try (@Nullable InputStream input = RepairKit.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                DebugUtil.debug("Resource not found: {}", resource);
+                return null;
+            }
+
+            @NotNull MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[65536];
+            long size = 0;
+            int read;
+
+            while ((read = input.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+                size += read;
             }
 
-            Path parent = savedFilePath.getParent();
+            @NotNull ResourceDigest digest = new ResourceDigest(size, HexFormat.of().formatHex(messageDigest.digest()));
+            RESOURCE_DIGESTS.put(resource, digest);
+            return digest;
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            DebugUtil.warn("Failed to hash resource: {}", resource, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Gets the SHA-256 hash of a file.
+     *
+     * @param path The file to hash.
+     * @return The hex-encoded hash.
+     * @throws IOException If the file couldn't be read.
+     */
+    public static @NotNull String hashFile(@NotNull Path path) throws IOException {
+        try (@NotNull FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            @NotNull MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            @NotNull ByteBuffer buffer = ByteBuffer.allocateDirect(TRANSFER_BUFFER_SIZE);
 
-            if (!Files.exists(parent)) {
-                DebugUtil.debug("Creating directories: " + parent);
-                Files.createDirectories(parent);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                messageDigest.update(buffer);
+                buffer.clear();
             }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IOException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Writes a stream to a temporary file next to the target, then moves it into place.
+     *
+     * @param input  The input stream to write.
+     * @param target The file to write.
+     * @throws IOException If the file couldn't be written.
+     */
+    private static void writeAtomically(@NotNull InputStream input, @NotNull Path target) throws IOException {
+        @NotNull Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+
+        @NotNull Path tempFile = Files.createTempFile(parent, target.getFileName() + ".", ".tmp");
+        long startTime = System.nanoTime();
+        long byteCount = 0;
+
+        try {
+            // File streams are transferred directly; other streams go through a channel adapter.
+            try (@NotNull ReadableByteChannel source = input instanceof FileInputStream
+                    ? ((FileInputStream) input).getChannel() : Channels.newChannel(input);
+                 @NotNull FileChannel output = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                long transferred;
 
-            DebugUtil.debug("Copying file: " + savedFilePath);
-            Files.copy(input, savedFilePath, StandardCopyOption.REPLACE_EXISTING);
+                while ((transferred = output.transferFrom(source, byteCount, TRANSFER_BUFFER_SIZE)) > 0) {
+                    byteCount += transferred;
+                }
+            }
+
+            try {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - startTime);
+        long savedBytes = byteCount;
+        DebugUtil.debug(() -> "Saved " + savedBytes + " bytes to " + target + " in " + elapsedNanos / 1_000_000 + " ms ("
+                + Math.round(savedBytes / 1024.0 / 1024.0 / (elapsedNanos / 1_000_000_000.0)) + " MB/s)");
+    }
+
+    /**
+     * Deletes a directory and everything in it, skipping files that are in use.
+     *
+     * @param directory The directory to delete.
+     * @return The number of files and directories that couldn't be deleted.
+     */
+    public static int deleteDirectory(@NotNull Path directory) {
+        if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+            return 0;
+        }
+
+        @NotNull AtomicInteger failed = new AtomicInteger();
+
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public @NotNull FileVisitResult visitFile(@NotNull Path file, @NotNull BasicFileAttributes attrs) {
+                    delete(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public @NotNull FileVisitResult visitFileFailed(@NotNull Path file, @NotNull IOException exc) {
+                    failed.incrementAndGet();
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public @NotNull FileVisitResult postVisitDirectory(@NotNull Path dir, @Nullable IOException exc) {
+                    delete(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                // Deletes a file or empty directory, counting it if it's in use.
+                private void delete(@NotNull Path path) {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (IOException ex) {
+                        failed.incrementAndGet();
+                    }
+                }
+            });
         } catch (IOException ex) {
-            DebugUtil.warn("Failed to save file: " + path, ex);
+            DebugUtil.warn("Failed to delete directory: {}", directory, ex);
         }
+
+        if (failed.get() > 0) {
+            DebugUtil.debug("Couldn't delete {} files in {}", failed.get(), directory);
+        }
+        return failed.get();
     }
 
     /**
@@ -181,7 +442,7 @@ public final class FileUtil {
      * @return The file.
      */
     public static @NotNull File getConfigFile(String fileName) {
-        @NotNull File file = new File(System.getProperty("user.dir") + "/config/" + fileName);
+        @NotNull File file = new File(getConfigDirectory(), fileName);
 
         if (!file.exists()) {
             try (@Nullable InputStream input = RepairKit.class.getClassLoader().getResourceAsStream("config/" + fileName)) {
@@ -189,15 +450,24 @@ public final class FileUtil {
                     JOptionPane.showMessageDialog(null,
                             "Failed to load config file: " + fileName,
                             "Error", JOptionPane.ERROR_MESSAGE);
-                    return new File(System.getProperty("user.dir") + "/config/" + fileName);
+                    return file;
                 }
 
-                saveFile(input, System.getProperty("user.dir") + "\\" + "config\\" + fileName, false);
-                file = new File(System.getProperty("user.dir") + "/config/" + fileName);
+                saveFile(input, file.getPath(), false);
             } catch (IOException ex) {
-                DebugUtil.warn("Failed to get config file: " + fileName, ex);
+                DebugUtil.warn("Failed to get config file: {}", fileName, ex);
             }
         }
         return file;
     }
+
+    /**
+     * Represents the size and hash of a resource.
+     */
+    @Data
+    private static final class ResourceDigest {
+
+        private final long size;
+        private final @NotNull String sha256;
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.foulest.repairkit.RepairKit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of icons decoded from the resources and scaled to the size they're displayed at.
+ * <p>
+ * Each icon is decoded once with {@link ImageIO} and drawn into an ARGB image with
+ * {@link Graphics2D}, which is much faster than {@link Image#getScaledInstance} and
+ * paints faster than the palette images most bundled icons decode to. Icons already
+ * at the right size are only converted, not scaled.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IconCache {
+
+    // The cached icons, by resource path and size
+    private static final Map<String, ImageIcon> icons = new ConcurrentHashMap<>();
+
+    /**
+     * Gets an icon, loading and scaling it on first use.
+     *
+     * @param path The resource path of the icon, such as {@code icons/CPU-Z.png}.
+     * @param size The width and height to scale the icon to.
+     * @return The scaled icon, or a blank icon if it couldn't be loaded.
+     */
+    public static @NotNull ImageIcon getIcon(@NotNull String path, int size) {
+        return icons.computeIfAbsent(getKey(path, size), key -> new ImageIcon(load(path, size)));
+    }
+
+    /**
+     * Gets an icon if it was already loaded.
+     *
+     * @param path The resource path of the icon, such as {@code icons/CPU-Z.png}.
+     * @param size The width and height the icon was scaled to.
+     * @return The scaled icon, or null if it wasn't loaded yet.
+     */
+    public static @Nullable ImageIcon getCachedIcon(@NotNull String path, int size) {
+        return icons.get(getKey(path, size));
+    }
+
+    /**
+     * Scales an image to a square size.
+     * Large images are halved in steps first, as a single bilinear pass skips pixels.
+     *
+     * @param source The image to scale.
+     * @param size   The width and height to scale the image to.
+     * @return The scaled image.
+     */
+    public static @NotNull BufferedImage scale(@NotNull BufferedImage source, int size) {
+        @NotNull BufferedImage image = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        while (width / 2 >= size && height / 2 >= size) {
+            width /= 2;
+            height /= 2;
+            image = draw(image, width, height);
+        }
+        return draw(image, size, size);
+    }
+
+    /**
+     * Loads an icon from the resources and scales it.
+     *
+     * @param path The resource path of the icon.
+     * @param size The width and height to scale the icon to.
+     * @return The scaled image, or a blank image if it couldn't be loaded.
+     */
+    private static @NotNull BufferedImage load(@NotNull String path, int size) {
+        try (@Nullable InputStream input = RepairKit.class.getClassLoader().getResourceAsStream(path)) {
+            if (input != null) {
+                // Reads the icon through a memory cache, as ImageIO otherwise buffers streams in a temp file.
+                @Nullable BufferedImage image = ImageIO.read(new MemoryCacheImageInputStream(input));
+
+                if (image != null) {
+                    return scale(image, size);
+                }
+            }
+
+            DebugUtil.debug("Failed to load icon: {}", path);
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to load icon: {}", path, ex);
+        }
+        return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Draws an image into a new ARGB image of a given size.
+     *
+     * @param source The image to draw.
+     * @param width  The width of the new image.
+     * @param height The height of the new image.
+     * @return The new image.
+     */
+    private static @NotNull BufferedImage draw(@NotNull Image source, int width, int height) {
+        @NotNull BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        @NotNull Graphics2D graphics = target.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Gets the cache key of an icon.
+     *
+     * @param path The resource path of the icon.
+     * @param size The size of the icon.
+     * @return The cache key.
+     */
+    private static @NotNull String getKey(@NotNull String path, int size) {
+        return path + '@' + size;
+    }
+}
@@ -17,23 +17,32 @@
  */
 package net.foulest.repairkit.util;
 
+import com.google.gson.JsonParseException;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import net.foulest.repairkit.RepairKit;
+import net.foulest.repairkit.util.backend.Backends;
+import net.foulest.repairkit.util.backend.FileSystemBackend;
 import net.foulest.repairkit.util.config.ConfigLoader;
+import net.foulest.repairkit.util.jfr.JunkScanProgressEvent;
+import net.foulest.repairkit.util.journal.RunJournal;
+import net.foulest.repairkit.util.junk.JunkFileDeleter;
+import net.foulest.repairkit.util.junk.JunkFileReport;
+import net.foulest.repairkit.util.junk.TempFileCleaner;
+import net.foulest.repairkit.util.metrics.Counter;
+import net.foulest.repairkit.util.metrics.MetricsRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import javax.swing.*;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 
@@ -60,12 +69,50 @@ public final class JunkFileUtil {
             "\\.hprof$"
     );
 
+    // The number of largest files listed in junk file reports by default
+    private static final int DEFAULT_REPORT_TOP_FILES = 25;
+
+    private static final Counter JUNK_FILES_SCANNED = MetricsRegistry.counter("junk.filesScanned");
+    private static final Counter JUNK_FILES_DELETED = MetricsRegistry.counter("junk.filesDeleted");
+    private static final Counter JUNK_BYTES_FREED = MetricsRegistry.counter("junk.bytesFreed");
+
     // Paths to exclude from scanning
     // Note: These are protected and can't be modified in the config files
     private static @NotNull Set<Path> EXCLUDED_PATHS = Set.of(
             Path.of("C:\\Windows\\System32")
     );
 
+    // Whether the next scans only report junk files, regardless of the config file
+    private static volatile boolean dryRunRequested;
+
+    /**
+     * Gets the junk file extension patterns scanned for.
+     *
+     * @return The extension patterns, as regular expressions.
+     */
+    public static @NotNull Set<String> getJunkFileExtensions() {
+        return JUNK_FILE_EXTENSIONS;
+    }
+
+    /**
+     * Gets the paths excluded from scanning.
+     *
+     * @return The excluded paths.
+     */
+    public static @NotNull Set<Path> getExcludedPaths() {
+        return EXCLUDED_PATHS;
+    }
+
+    /**
+     * Sets whether junk file scans only write a report of what would be deleted,
+     * overriding the {@code dryRun} setting in the config file.
+     *
+     * @param requested Whether to only report junk files.
+     */
+    public static void setDryRunRequested(boolean requested) {
+        dryRunRequested = requested;
+    }
+
     /**
      * Checks for junk files on the system.
      */
@@ -99,108 +146,289 @@ public final class JunkFileUtil {
 
             // Replaces environment variables in the paths and adds them to the set.
             for (@NotNull String path : (Iterable<String>) junkFilesConfig.get("excludedPaths")) {
-                @NotNull String fixedPath = path.replace("%temp%", System.getenv("TEMP"))
+                @NotNull String fixedPath = path.replace("%temp%", FileUtil.getTempPath())
                         .replace("%USERPROFILE%", System.getenv("USERPROFILE"));
                 try {
                     excludedPaths.add(Paths.get(fixedPath).toAbsolutePath().normalize());
                 } catch (InvalidPathException ipe) {
-                    DebugUtil.warn("Invalid excluded path in config: " + fixedPath, ipe);
+                    DebugUtil.warn("Invalid excluded path in config: {}", fixedPath, ipe);
                 }
             }
 
             // Adds the excluded paths to the set without overwriting the default excluded paths.
-            EXCLUDED_PATHS.addAll(excludedPaths);
+            excludedPaths.addAll(EXCLUDED_PATHS);
+            EXCLUDED_PATHS = Set.copyOf(excludedPaths);
         }
 
-        // Empties the Recycle Bin.
-        if (junkFilesConfig.get("emptyRecycleBin") != null
+        // Checks if the scan should only report what would be deleted.
+        boolean dryRun = dryRunRequested || (junkFilesConfig.get("dryRun") != null
+                && junkFilesConfig.get("dryRun").equals(Boolean.TRUE));
+        int reportTopFiles = junkFilesConfig.get("reportTopFiles") instanceof Number number
+                ? number.intValue() : DEFAULT_REPORT_TOP_FILES;
+
+        @NotNull JunkFileReport report = JunkFileReport.start();
+
+        if (dryRun) {
+            DebugUtil.info("Junk file dry run enabled; nothing will be deleted.");
+        } else if (junkFilesConfig.get("emptyRecycleBin") != null
                 && junkFilesConfig.get("emptyRecycleBin").equals(Boolean.TRUE)) {
+            // Empties the Recycle Bin.
             CommandUtil.runPowerShellCommand("Clear-RecycleBin -Force -ErrorAction SilentlyContinue", false);
         }
 
         // Deletes files in the Temp directory older than one day.
         if (junkFilesConfig.get("cleanUserTempFiles") != null
                 && junkFilesConfig.get("cleanUserTempFiles").equals(Boolean.TRUE)) {
-            CommandUtil.runPowerShellCommand("Get-ChildItem -Path $env:TEMP -Recurse | Where-Object { $_.LastWriteTime -lt (Get-Date).AddDays(-1) } | Remove-Item -Recurse -Force -ErrorAction SilentlyContinue", false);
+            RunJournal.task("userTemp", () -> cleanTempFolder(Paths.get(FileUtil.getTempPath()),
+                    Instant.now().minus(1, ChronoUnit.DAYS), dryRun, report));
         }
 
         // Deletes files in the Windows temp directory.
         if (junkFilesConfig.get("cleanSystemTempFiles") != null
                 && junkFilesConfig.get("cleanSystemTempFiles").equals(Boolean.TRUE)) {
-            CommandUtil.runPowerShellCommand("Get-ChildItem -Path $env:windir\\Temp -Recurse | Remove-Item -Recurse -Force -ErrorAction SilentlyContinue", false);
+            RunJournal.task("systemTemp", () -> cleanTempFolder(Paths.get(Objects.requireNonNullElse(System.getenv("windir"), "C:\\Windows"), "Temp"),
+                    null, dryRun, report));
         }
 
         // Deletes files using the Everything Command Line tool.
         if (junkFilesConfig.get("cleanWithEverything") != null
                 && junkFilesConfig.get("cleanWithEverything").equals(Boolean.TRUE)) {
-            // Checks if Everything was already running.
-            boolean everythingRunningBefore = ProcessUtil.isProcessRunning("Everything-RepairKit.exe");
-
-            // Quietly extracts and launches Everything.
-            @NotNull String path = FileUtil.tempDirectory.getPath();
-            SwingUtil.launchApplication("Everything.7z", "\\Everything-RepairKit.exe", "-startup", true, path);
-
-            // Extracts the Everything Command Line tool and runs it to delete junk files.
-            try (@Nullable InputStream input = RepairKit.class.getClassLoader().getResourceAsStream("bin/es.exe")) {
-                if (input == null) {
-                    JOptionPane.showMessageDialog(null,
-                            "Failed to load Everything Command Line file.",
-                            "Error", JOptionPane.ERROR_MESSAGE);
-                    return;
+            RunJournal.task("everything", () -> {
+                // Deletes files as they are found unless this is a dry run.
+                @Nullable JunkFileDeleter deleter = dryRun ? null : JunkFileDeleter.createDefault();
+
+                if (deleter != null) {
+                    deleter.start();
                 }
 
-                // Saves the Everything Command Line tool to the temp directory.
-                FileUtil.saveFile(input, FileUtil.tempDirectory + "\\es.exe", true);
+                scanWithEverything(report, deleter);
 
-                long last24Hours = Instant.now().minus(24, ChronoUnit.HOURS).toEpochMilli();
+                if (deleter != null) {
+                    JunkFileDeleter.@NotNull Stats stats = deleter.finish();
+                    RunJournal.recordBytesFreed(stats.getDeletedBytes());
+                    JUNK_FILES_DELETED.add(stats.getDeletedFiles());
+                    JUNK_BYTES_FREED.add(stats.getDeletedBytes());
+                }
+            });
+        }
 
-                for (String extension : JUNK_FILE_EXTENSIONS) {
-                    // Gets the list of files to delete for each extension.
-                    List<String> files = CommandUtil.getCommandOutput("\"" + FileUtil.tempDirectory + "\\es.exe\" -r " + extension, false, false);
+        report.finish(reportTopFiles);
+        DebugUtil.info("Found {} junk files totaling {} bytes in {} ms",
+                report.getFiles().size(), report.getTotalBytes(), report.getScanDurationMillis());
 
-                    for (String file : files) {
-                        if (!file.contains(":\\")) {
-                            continue;
-                        }
+        if (dryRun) {
+            writeReport(report);
+        }
+    }
 
-                        @NotNull Path filePath = Paths.get(file);
+    /**
+     * Deletes old files in a temp folder, leaving RepairKit's own files alone.
+     * Folders that haven't changed since the previous cleanup are skipped.
+     *
+     * @param folder The temp folder to clean.
+     * @param cutoff Only files last modified before this time are deleted, or null to delete all files.
+     * @param dryRun Whether files are only added to the report rather than deleted.
+     * @param report The report to add files to when running as a dry run.
+     */
+    private static void cleanTempFolder(@NotNull Path folder, @Nullable Instant cutoff,
+                                        boolean dryRun, @NotNull JunkFileReport report) {
+        @NotNull Set<Path> excludedPaths = new HashSet<>(EXCLUDED_PATHS);
+        excludedPaths.add(FileUtil.tempDirectory.toPath().toAbsolutePath().normalize());
 
-                        // Check if the path is in the excluded paths set
-                        if (EXCLUDED_PATHS.stream().anyMatch(excludedPath -> filePath.toAbsolutePath().normalize().startsWith(excludedPath))) {
-                            continue;
-                        }
+        @NotNull TempFileCleaner cleaner = new TempFileCleaner(folder, cutoff);
+        cleaner.setExcludedPaths(excludedPaths);
+        cleaner.setDryRun(dryRun);
+        cleaner.setReport(report);
+        cleaner.setProgressListener(progress -> {
+            DebugUtil.debug("Cleaning {}: {} files scanned, {} removed",
+                    progress.getRoot(), progress.getFilesScanned(), progress.getFilesDeleted());
+
+            @NotNull JunkScanProgressEvent event = new JunkScanProgressEvent();
+
+            if (event.shouldCommit()) {
+                event.setRoot(progress.getRoot());
+                event.setFilesScanned(progress.getFilesScanned());
+                event.setFilesDeleted(progress.getFilesDeleted());
+                event.setBytesDeleted(progress.getBytesDeleted());
+                event.setDirectoriesSkipped(progress.getDirectoriesSkipped());
+                event.commit();
+            }
+        });
+
+        // Uses the index of folders seen by the previous cleanup of this folder.
+        @NotNull Path indexFile = FileUtil.dataDirectory.toPath().resolve("junk_index_"
+                + Integer.toHexString(folder.toAbsolutePath().normalize().toString().toLowerCase(Locale.ROOT).hashCode()) + ".bin");
+        @NotNull TempFileCleaner.Result result = Backends.getFileSystemBackend().cleanTempFolder(cleaner, indexFile);
+        JUNK_FILES_SCANNED.add(result.getFilesScanned());
+
+        if (!dryRun) {
+            RunJournal.recordBytesFreed(result.getBytesDeleted());
+            JUNK_FILES_DELETED.add(result.getFilesDeleted());
+            JUNK_BYTES_FREED.add(result.getBytesDeleted());
+        }
+    }
+
+    /**
+     * Scans for junk files using the Everything Command Line tool.
+     *
+     * @param report  The report to add found files to.
+     * @param deleter The deleter to stream found files to, or null to only report them.
+     */
+    private static void scanWithEverything(@NotNull JunkFileReport report, @Nullable JunkFileDeleter deleter) {
+        try (FileSystemBackend.@Nullable FileSearch search = Backends.getFileSystemBackend().openFileSearch()) {
+            if (search == null) {
+                return;
+            }
+
+            // Runs the Everything Command Line tool to find junk files.
+            long last24Hours = Instant.now().minus(24, ChronoUnit.HOURS).toEpochMilli();
+
+            for (String extension : JUNK_FILE_EXTENSIONS) {
+                // Gets the list of matching files for each extension.
+                List<String> files = search.find(extension);
+                JUNK_FILES_SCANNED.add(files.size());
+
+                for (String file : files) {
+                    @Nullable JunkFileReport.Entry entry = createReportEntry(file, extension, last24Hours);
+
+                    if (entry != null) {
+                        report.add(entry);
 
-                        // Checks if the file is a regular file before attempting to delete it
-                        try {
-                            BasicFileAttributes attrs = Files.readAttributes(filePath, BasicFileAttributes.class);
-
-                            // Ignores files accessed in the last 24 hours.
-                            if (attrs.lastAccessTime().toMillis() > last24Hours) {
-                                continue;
-                            }
-
-                            // Only attempts to delete regular files, not directories or symbolic links.
-                            if (attrs.isRegularFile()) {
-                                try {
-                                    Files.delete(filePath);
-                                    DebugUtil.debug("Deleted junk file: " + filePath);
-                                } catch (IOException ex) {
-                                    DebugUtil.warn("Failed to delete file: " + file, ex);
-                                }
-                            }
-                        } catch (IOException ex) {
-                            DebugUtil.warn("Failed to read attributes for file: " + file, ex);
+                        if (deleter != null) {
+                            deleter.submit(entry);
                         }
                     }
                 }
-            } catch (IOException ex) {
-                DebugUtil.warn("Failed to extract Everything Command Line file.", ex);
             }
+        }
+    }
+
+    /**
+     * Creates a report entry for a file found by a scan.
+     *
+     * @param file           The path of the file.
+     * @param extension      The junk file extension pattern the file matched.
+     * @param accessedCutoff Files accessed after this time (in epoch milliseconds) are ignored.
+     * @return The report entry, or null if the file should not be deleted.
+     */
+    private static @Nullable JunkFileReport.Entry createReportEntry(@NotNull String file, @NotNull String extension,
+                                                                   long accessedCutoff) {
+        @Nullable Path filePath = resolveScannedFile(file, EXCLUDED_PATHS);
 
-            // Kills the Everything process if it wasn't running before, otherwise leaves it running.
-            if (!everythingRunningBefore) {
-                ProcessUtil.killProcess("Everything-RepairKit.exe");
+        if (filePath == null) {
+            return null;
+        }
+
+        // Checks if the file is a regular file before listing it
+        try {
+            BasicFileAttributes attrs = Backends.getFileSystemBackend().readAttributes(filePath);
+
+            // Ignores files accessed in the last 24 hours.
+            if (attrs.lastAccessTime().toMillis() > accessedCutoff) {
+                return null;
             }
+
+            // Only lists regular files, not directories or symbolic links.
+            if (!attrs.isRegularFile()) {
+                return null;
+            }
+
+            @Nullable Path root = filePath.getRoot();
+            return new JunkFileReport.Entry(filePath.toString(), getExtensionName(extension),
+                    root == null ? "" : root.toString(),
+                    attrs.size(), attrs.lastModifiedTime().toMillis());
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to read attributes for file: {}", file, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Resolves the path of a file found by a scan, unless it's excluded from scanning.
+     *
+     * @param file          The path of the file, as printed by the scan.
+     * @param excludedPaths The paths to exclude from scanning.
+     * @return The file's normalized absolute path, or null if it isn't an absolute drive path or is excluded.
+     */
+    public static @Nullable Path resolveScannedFile(@NotNull String file, @NotNull Collection<Path> excludedPaths) {
+        if (!file.contains(":\\")) {
+            return null;
+        }
+
+        @NotNull Path filePath = Paths.get(file).toAbsolutePath().normalize();
+
+        // Check if the path is in the excluded paths set
+        if (excludedPaths.stream().anyMatch(filePath::startsWith)) {
+            return null;
+        }
+        return filePath;
+    }
+
+    /**
+     * Gets the readable name of a junk file extension pattern, such as {@code .old.log} for {@code \.old\.log$}.
+     *
+     * @param extension The junk file extension pattern.
+     * @return The extension's name.
+     */
+    public static @NotNull String getExtensionName(@NotNull String extension) {
+        return extension.replace("\\", "").replace("$", "");
+    }
+
+    /**
+     * Deletes the files listed in a junk file report.
+     * Files that changed since the scan (size or last modified time) are skipped.
+     *
+     * @param reportFile The path of the JSON report to apply.
+     * @return Whether the report could be read.
+     */
+    public static boolean applyReport(@NotNull Path reportFile) {
+        try {
+            @Nullable JunkFileReport report = JunkFileReport.readJson(reportFile);
+
+            if (report == null) {
+                DebugUtil.debug("Junk file report is empty: {}", reportFile);
+                return false;
+            }
+
+            applyReport(report);
+            return true;
+        } catch (IOException | JsonParseException ex) {
+            DebugUtil.warn("Failed to read junk file report: {}", reportFile, ex);
+            return false;
+        }
+    }
+
+    /**
+     * Deletes the files listed in a junk file report.
+     * Files that changed since the scan (size or last modified time) are skipped.
+     *
+     * @param report The report to apply.
+     */
+    public static void applyReport(@NotNull JunkFileReport report) {
+        @NotNull JunkFileDeleter deleter = JunkFileDeleter.createDefault();
+        deleter.start();
+        // Skips empty entries, e.g. from a hand-edited report, as the queue can't hold them.
+        report.getFiles().stream().filter(Objects::nonNull).forEach(deleter::submit);
+        deleter.finish();
+    }
+
+    /**
+     * Writes a junk file report to the reports directory as JSON and CSV.
+     *
+     * @param report The report to write.
+     */
+    private static void writeReport(@NotNull JunkFileReport report) {
+        @NotNull String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss", Locale.ROOT));
+        @NotNull Path reportDirectory = Paths.get(System.getProperty("user.dir"), "reports");
+        @NotNull Path jsonFile = reportDirectory.resolve("junk_report_" + timestamp + ".json");
+        @NotNull Path csvFile = reportDirectory.resolve("junk_report_" + timestamp + ".csv");
+
+        try {
+            report.writeJson(jsonFile);
+            report.writeCsv(csvFile);
+            DebugUtil.info("Wrote junk file report: {}", jsonFile);
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to write junk file report: {}", jsonFile, ex);
         }
     }
 }
@@ -20,8 +20,11 @@ package net.foulest.repairkit.util;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.backend.Backends;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.file.Paths;
+
 /**
  * Utility class for process operations.
  *
@@ -38,8 +41,7 @@ public final class ProcessUtil {
      * @return - Whether the service is running.
      */
     public static boolean isServiceRunning(String serviceName) {
-        return CommandUtil.getCommandOutput("sc query \"" + serviceName + "\"",
-                false, false).toString().contains("RUNNING");
+        return Backends.getServiceBackend().isRunning(serviceName);
     }
 
     /**
@@ -53,12 +55,27 @@ public final class ProcessUtil {
                 false, false).toString().contains(processName);
     }
 
+    /**
+     * Checks if an application is running without spawning {@code tasklist}.
+     * <p>
+     * Only sees processes whose image path can be queried, which excludes protected
+     * system processes such as {@code MsMpEng.exe}; use {@link #isProcessRunning} for those.
+     *
+     * @param processName - Name of the application's process, such as {@code medal.exe}.
+     * @return - Whether the application is running.
+     */
+    public static boolean isAppRunning(@NotNull String processName) {
+        return ProcessHandle.allProcesses().anyMatch(process -> process.info().command()
+                .map(command -> Paths.get(command).getFileName().toString().equalsIgnoreCase(processName))
+                .orElse(false));
+    }
+
     /**
      * Kills a process by name.
      *
      * @param processName - Name of the process to kill.
      */
-    static void killProcess(@NotNull CharSequence processName) {
+    public static void killProcess(@NotNull CharSequence processName) {
         CommandUtil.runCommand("taskkill /F /IM \"" + processName + "\"", false);
     }
 }
@@ -17,15 +17,16 @@
  */
 package net.foulest.repairkit.util;
 
-import com.sun.jna.Native;
-import com.sun.jna.platform.win32.*;
-import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.platform.win32.WinReg;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.backend.Backends;
+import net.foulest.repairkit.util.metrics.Counter;
+import net.foulest.repairkit.util.metrics.MetricsRegistry;
+import net.foulest.repairkit.util.metrics.Timer;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -37,18 +38,8 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class RegistryUtil {
 
-    /**
-     * Creates a registry key if it doesn't exist.
-     *
-     * @param hkey    Registry key to check.
-     * @param keyPath Path to the registry key.
-     */
-    private static void createRegistryKeyIfNeeded(WinReg.HKEY hkey, String keyPath) {
-        if (!Advapi32Util.registryKeyExists(hkey, keyPath)) {
-            DebugUtil.debug("Creating registry key: " + keyPath);
-            Advapi32Util.registryCreateKey(hkey, keyPath);
-        }
-    }
+    private static final Counter REGISTRY_OPS = MetricsRegistry.counter("registry.operations");
+    private static final Timer REGISTRY_OP_DURATION = MetricsRegistry.timer("registry.operationDuration");
 
     /**
      * Sets a registry int value.
@@ -59,9 +50,14 @@ public final class RegistryUtil {
      * @param value   Value to set.
      */
     public static void setRegistryIntValue(WinReg.HKEY hkey, String keyPath, String keyName, int value) {
-        DebugUtil.debug("Setting registry int value: " + keyName + " to " + value);
-        createRegistryKeyIfNeeded(hkey, keyPath);
-        Advapi32Util.registrySetIntValue(hkey, keyPath, keyName, value);
+        DebugUtil.debug("Setting registry int value: {} to {}", keyName, value);
+        long startNanos = System.nanoTime();
+
+        try {
+            Backends.getRegistryBackend().setIntValue(hkey, keyPath, keyName, value);
+        } finally {
+            recordOperation(startNanos);
+        }
     }
 
     /**
@@ -73,9 +69,14 @@ public final class RegistryUtil {
      * @param value   Value to set.
      */
     public static void setRegistryStringValue(WinReg.HKEY hkey, String keyPath, String keyName, String value) {
-        DebugUtil.debug("Setting registry string value: " + keyName + " to " + value);
-        createRegistryKeyIfNeeded(hkey, keyPath);
-        Advapi32Util.registrySetStringValue(hkey, keyPath, keyName, value);
+        DebugUtil.debug("Setting registry string value: {} to {}", keyName, value);
+        long startNanos = System.nanoTime();
+
+        try {
+            Backends.getRegistryBackend().setStringValue(hkey, keyPath, keyName, value);
+        } finally {
+            recordOperation(startNanos);
+        }
     }
 
     /**
@@ -86,10 +87,13 @@ public final class RegistryUtil {
      * @param value   Value to delete.
      */
     public static void deleteRegistryValue(WinReg.HKEY hkey, String keyPath, String value) {
-        DebugUtil.debug("Deleting registry value: " + value);
+        DebugUtil.debug("Deleting registry value: {}", value);
+        long startNanos = System.nanoTime();
 
-        if (Advapi32Util.registryValueExists(hkey, keyPath, value)) {
-            Advapi32Util.registryDeleteValue(hkey, keyPath, value);
+        try {
+            Backends.getRegistryBackend().deleteValue(hkey, keyPath, value);
+        } finally {
+            recordOperation(startNanos);
         }
     }
 
@@ -100,13 +104,26 @@ public final class RegistryUtil {
      * @param keyPath Path to the registry key.
      */
     public static void deleteRegistryKey(WinReg.HKEY hkey, String keyPath) {
-        DebugUtil.debug("Deleting registry key: " + keyPath);
+        DebugUtil.debug("Deleting registry key: {}", keyPath);
+        long startNanos = System.nanoTime();
 
-        if (Advapi32Util.registryKeyExists(hkey, keyPath)) {
-            Advapi32Util.registryDeleteKey(hkey, keyPath);
+        try {
+            Backends.getRegistryBackend().deleteKey(hkey, keyPath);
+        } finally {
+            recordOperation(startNanos);
         }
     }
 
+    /**
+     * Records a registry operation in the metrics.
+     *
+     * @param startNanos The time the operation started, from {@link System#nanoTime()}.
+     */
+    private static void recordOperation(long startNanos) {
+        REGISTRY_OPS.increment();
+        REGISTRY_OP_DURATION.recordSince(startNanos);
+    }
+
     /**
      * Lists all sub keys of a registry key.
      *
@@ -115,34 +132,7 @@ public final class RegistryUtil {
      * @return List of sub keys.
      */
     public static @NotNull List<String> listSubKeys(WinReg.HKEY root, String keyPath) {
-        DebugUtil.debug("Listing sub keys: " + keyPath);
-        @NotNull List<String> subKeysList = new ArrayList<>();
-        WinReg.@NotNull HKEYByReference hkeyRef = Advapi32Util.registryGetKey(root, keyPath, WinNT.KEY_READ);
-        WinReg.HKEY hkey = hkeyRef.getValue();
-
-        try {
-            @NotNull IntByReference lpcSubKeys = new IntByReference();
-            @NotNull IntByReference lpcMaxSubKeyLen = new IntByReference();
-
-            if (Advapi32.INSTANCE.RegQueryInfoKey(hkey, null, null, null,
-                    lpcSubKeys, lpcMaxSubKeyLen, null, null, null,
-                    null, null, null) == WinError.ERROR_SUCCESS) {
-                int maxSubKeyLen = lpcMaxSubKeyLen.getValue() + 1; // account for null-terminator
-                char @NotNull [] nameBuffer = new char[maxSubKeyLen];
-
-                for (int index = 0; index < lpcSubKeys.getValue(); index++) {
-                    @NotNull IntByReference lpcchValueName = new IntByReference(maxSubKeyLen);
-
-                    if (Advapi32.INSTANCE.RegEnumKeyEx(hkey, index, nameBuffer, lpcchValueName,
-                            null, null, null, null) == WinError.ERROR_SUCCESS) {
-                        subKeysList.add(Native.toString(nameBuffer));
-                    }
-                }
-            }
-        } finally {
-            DebugUtil.debug("Closing registry key: " + keyPath);
-            Advapi32.INSTANCE.RegCloseKey(hkey);
-        }
-        return subKeysList;
+        DebugUtil.trace("Listing sub keys: {}", keyPath);
+        return Backends.getRegistryBackend().listSubKeys(root, keyPath);
     }
 }
@@ -21,6 +21,9 @@ import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import net.foulest.repairkit.RepairKit;
+import net.foulest.repairkit.util.extract.ExtractionCache;
+import net.foulest.repairkit.util.extract.ExtractionCoordinator;
+import net.foulest.repairkit.util.extract.LaunchStats;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -31,7 +34,6 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.font.TextAttribute;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
@@ -39,6 +41,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Utility class for Swing operations.
@@ -49,6 +53,19 @@ import java.util.Map;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SwingUtil {
 
+    // Coordinates extractions to the temp directory, one at a time per application
+    private static final ExtractionCoordinator EXTRACTIONS = new ExtractionCoordinator();
+
+    // The width and height of application icons
+    private static final int ICON_SIZE = 35;
+
+    // Decodes and scales application icons, keeping the work off the event dispatch thread
+    private static final ExecutorService ICON_LOADER = Executors.newSingleThreadExecutor(runnable -> {
+        @NotNull Thread thread = new Thread(runnable, "RepairKit-IconLoader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * Creates an action button without a tooltip.
      *
@@ -116,32 +133,32 @@ public final class SwingUtil {
      * @param appResource    The name of the application's resource.
      * @param appExecutable  The name of the application's executable.
      * @param isZipped       Whether the application is zipped or not.
-     * @param extractionPath The path to extract the application to.
+     * @param extractionPath The path to extract the application to if it can't be cached.
      * @param launchArgs     The arguments to launch the application with.
      */
     @SuppressWarnings("SameParameterValue")
-    static void launchApplication(String appResource, String appExecutable,
-                                  @NotNull CharSequence launchArgs, boolean isZipped, @NotNull String extractionPath) {
+    public static void launchApplication(String appResource, String appExecutable,
+                                         @NotNull CharSequence launchArgs, boolean isZipped, @NotNull String extractionPath) {
         @NotNull Path path = Paths.get(extractionPath, appExecutable);
 
-        synchronized (RepairKit.class) {
-            if (!Files.exists(path)) {
-                try (@Nullable InputStream input = RepairKit.class.getClassLoader().getResourceAsStream("bin/" + appResource)) {
-                    if (input == null) {
-                        JOptionPane.showMessageDialog(null,
-                                "Failed to load application: " + appResource,
-                                "Error", JOptionPane.ERROR_MESSAGE);
-                        return;
-                    }
+        // Launches zipped applications from the extraction cache, so they're only extracted once.
+        if (isZipped) {
+            LaunchStats.recordLaunch(appResource);
+            @Nullable Path cachedFolder = ExtractionCache.getDefault().getOrExtract(appResource);
 
-                    FileUtil.saveFile(input, FileUtil.tempDirectory + "\\" + appResource, false);
-                } catch (IOException ex) {
-                    DebugUtil.warn("Failed to save application: " + appResource, ex);
-                }
+            if (cachedFolder != null && Files.exists(Paths.get(cachedFolder.toString(), appExecutable))) {
+                path = Paths.get(cachedFolder.toString(), appExecutable);
+            }
+        }
 
-                if (isZipped) {
-                    FileUtil.unzipFile(FileUtil.tempDirectory + "\\" + appResource, extractionPath);
-                }
+        // Otherwise extracts the application to the extraction path.
+        // Concurrent launches of the same application wait for a single extraction.
+        if (!Files.exists(path)) {
+            @NotNull Path extractedPath = path;
+
+            if (EXTRACTIONS.run(appResource + "|" + extractionPath,
+                    () -> extractApplication(appResource, isZipped, extractionPath, extractedPath)) == null) {
+                return;
             }
         }
 
@@ -149,24 +166,57 @@ public final class SwingUtil {
         CommandUtil.runCommand(path + (launchArgsEmpty ? "" : " " + launchArgs), true);
     }
 
+    /**
+     * Saves an application to the temp directory and extracts it if it's zipped.
+     *
+     * @param appResource    The name of the application's resource.
+     * @param isZipped       Whether the application is zipped or not.
+     * @param extractionPath The path to extract the application to.
+     * @param path           The path of the application's executable.
+     * @return The path of the application's executable, or null if its resource couldn't be loaded.
+     */
+    private static @Nullable Path extractApplication(String appResource, boolean isZipped,
+                                                     @NotNull String extractionPath, @NotNull Path path) {
+        if (Files.exists(path)) {
+            return path;
+        }
+
+        if (!FileUtil.saveResource("bin/" + appResource, FileUtil.tempDirectory + "\\" + appResource)) {
+            JOptionPane.showMessageDialog(null,
+                    "Failed to load application: " + appResource,
+                    "Error", JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+
+        if (isZipped) {
+            FileUtil.unzipFile(FileUtil.tempDirectory + "\\" + appResource, extractionPath);
+        }
+        return path;
+    }
+
     /**
      * Sets up an application icon.
+     * Icons that aren't cached yet are added as a blank placeholder, then loaded and scaled in the background.
      *
      * @param baseHeight The base height of the panel.
      * @param baseWidth  The base width of the panel.
-     * @param imageIcon  The icon to display.
+     * @param iconPath   The resource path of the icon to display, such as {@code icons/CPU-Z.png}.
      * @param panel      The panel to add the icon to.
      */
     public static void setupAppIcon(int baseHeight, int baseWidth,
-                                    @NotNull ImageIcon imageIcon,
+                                    @NotNull String iconPath,
                                     @NotNull JPanel panel) {
-        Image scaledImage = imageIcon.getImage().getScaledInstance(35, 35, Image.SCALE_SMOOTH);
-        imageIcon = new ImageIcon(scaledImage);
-
-        @NotNull JLabel iconLabel = new JLabel(imageIcon);
-        iconLabel.setBounds(baseWidth, baseHeight + 7, 35, 35);
+        @Nullable ImageIcon cachedIcon = IconCache.getCachedIcon(iconPath, ICON_SIZE);
+        @NotNull JLabel iconLabel = new JLabel(cachedIcon);
+        iconLabel.setBounds(baseWidth, baseHeight + 7, ICON_SIZE, ICON_SIZE);
         panel.add(iconLabel);
-        iconLabel.repaint();
+
+        if (cachedIcon == null) {
+            ICON_LOADER.execute(() -> {
+                @NotNull ImageIcon imageIcon = IconCache.getIcon(iconPath, ICON_SIZE);
+                SwingUtilities.invokeLater(() -> iconLabel.setIcon(imageIcon));
+            });
+        }
     }
 
     /**
@@ -20,12 +20,17 @@ package net.foulest.repairkit.util;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.jfr.TaskCompletedEvent;
+import net.foulest.repairkit.util.journal.RunJournal;
+import net.foulest.repairkit.util.metrics.MetricsRegistry;
+import net.foulest.repairkit.util.metrics.Timer;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Utility class for task operations.
@@ -36,24 +41,47 @@ import java.util.concurrent.Executors;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class TaskUtil {
 
+    private static final Timer TASK_QUEUE_WAIT = MetricsRegistry.timer("tasks.queueWait");
+    private static final Timer TASK_DURATION = MetricsRegistry.timer("tasks.duration");
+
     /**
      * Executes a list of tasks concurrently using an ExecutorService and CountDownLatch.
+     * Tasks that throw are logged and recorded as failures of the current step in the run journal.
      *
      * @param tasks the list of tasks to execute
+     * @return the number of tasks that failed
      */
-    public static void executeTasks(@NotNull Collection<Runnable> tasks) {
+    public static int executeTasks(@NotNull Collection<Runnable> tasks) {
         @NotNull ExecutorService executor = Executors.newWorkStealingPool();
         int size = tasks.size();
         @NotNull CountDownLatch latch = new CountDownLatch(size);
+        @NotNull AtomicInteger failures = new AtomicInteger();
+
+        int index = 0;
 
         // Submit each task to the executor
         for (@NotNull Runnable task : tasks) {
+            int taskIndex = index++;
+            long submitTime = System.nanoTime();
+
             executor.submit(() -> {
+                @NotNull TaskCompletedEvent event = new TaskCompletedEvent();
+                event.begin();
+                long startTime = System.nanoTime();
+                event.setQueueWait(startTime - submitTime);
+                TASK_QUEUE_WAIT.record(startTime - submitTime);
+
                 try {
                     task.run();
                 } catch (RuntimeException ex) {
+                    event.setFailed(true);
+                    failures.incrementAndGet();
                     DebugUtil.warn("Failed to execute task", ex);
                 } finally {
+                    event.setTaskIndex(taskIndex);
+                    event.setBatchSize(size);
+                    event.commit();
+                    TASK_DURATION.recordSince(startTime);
                     latch.countDown();
                 }
             });
@@ -69,5 +97,11 @@ public final class TaskUtil {
 
         // Shut down the executor
         executor.shutdown();
+
+        // Fails the step the tasks ran in
+        if (failures.get() > 0) {
+            RunJournal.recordFailures(failures.get());
+        }
+        return failures.get();
     }
 }
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
+import java.awt.GraphicsEnvironment;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -144,9 +145,13 @@ public final class UpdateUtil {
 
         try (@Nullable InputStream input = RepairKit.class.getResourceAsStream("/version.properties")) {
             if (input == null) {
-                JOptionPane.showMessageDialog(null,
-                        "Failed to load version properties.",
-                        "Error", JOptionPane.ERROR_MESSAGE);
+                DebugUtil.debug("Failed to load version properties.");
+
+                if (!GraphicsEnvironment.isHeadless()) {
+                    JOptionPane.showMessageDialog(null,
+                            "Failed to load version properties.",
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
                 return "Unknown";
             }
 
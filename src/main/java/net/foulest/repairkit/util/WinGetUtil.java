@@ -9,6 +9,7 @@ import net.foulest.repairkit.util.config.ConfigLoader;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
+import java.awt.GraphicsEnvironment;
 import java.util.*;
 
 /**
@@ -36,7 +37,7 @@ public final class WinGetUtil {
         Object values = config.get("values");
 
         if (values == null || ((Collection<String>) values).isEmpty()) {
-            Toast.toast(ToastType.INFO, "RepairKit", "No excluded programs found.");
+            showToast("No excluded programs found.");
             DebugUtil.debug("No excluded programs found.");
             return;
         }
@@ -52,7 +53,7 @@ public final class WinGetUtil {
 
         // Checks if there are no outdated programs.
         if (outdatedPrograms.isEmpty()) {
-            Toast.toast(ToastType.INFO, "RepairKit", "No outdated programs found.");
+            showToast("No outdated programs found.");
             DebugUtil.debug("No outdated programs found.");
             return;
         }
@@ -73,20 +74,24 @@ public final class WinGetUtil {
                 continue;
             }
 
-            Toast.toast(ToastType.INFO, "RepairKit", "Updating program: " + id);
+            showToast("Updating program: " + id);
             DebugUtil.debug("Updating program: " + id);
 
             if (updatePackage(id)) {
-                Toast.toast(ToastType.INFO, "RepairKit", "Updated program: " + id);
+                showToast("Updated program: " + id);
                 DebugUtil.debug("Updated program: " + id);
                 updatedPrograms.add(id);
             } else {
-                Toast.toast(ToastType.INFO, "RepairKit", "Failed to update program: " + id);
+                showToast("Failed to update program: " + id);
                 DebugUtil.debug("Failed to update program: " + id);
                 updatedPrograms.add(id);
             }
 
             // Pause for a moment to allow the notification to fade.
+            if (GraphicsEnvironment.isHeadless()) {
+                continue;
+            }
+
             try {
                 Thread.sleep(3000);
             } catch (InterruptedException ex) {
@@ -107,10 +112,10 @@ public final class WinGetUtil {
 
         // Displays a final notification message.
         if (excludedCount == outdatedPrograms.size()) {
-            Toast.toast(ToastType.INFO, "RepairKit", "No outdated programs found.");
+            showToast("No outdated programs found.");
             DebugUtil.debug("No outdated programs found.");
         } else {
-            Toast.toast(ToastType.INFO, "RepairKit", "All programs are up to date.");
+            showToast("All programs are up to date.");
             DebugUtil.debug("All programs are up to date.");
         }
     }
@@ -122,7 +127,7 @@ public final class WinGetUtil {
     }
 
     private static @NotNull List<String> getOutdatedPrograms() {
-        Toast.toast(ToastType.INFO, "RepairKit", "Checking for outdated programs...");
+        showToast("Checking for outdated programs...");
         DebugUtil.debug("Checking for outdated programs...");
 
         // Installs the required dependencies for WinGet.
@@ -172,6 +177,11 @@ public final class WinGetUtil {
             return programs;
         }
 
+        // Updates without asking when running headless; selecting the step is the consent.
+        if (GraphicsEnvironment.isHeadless()) {
+            return programs;
+        }
+
         // Adds a warning message to the builder.
         builder.append("\n\nWould you like to update these programs now?");
         builder.append("\n\nMake sure to close any programs that may be affected.");
@@ -200,4 +210,15 @@ public final class WinGetUtil {
                 && !output.contains("Installer hash does not match")
                 && !output.contains("No available upgrade found");
     }
+
+    /**
+     * Shows a toast notification, unless running without a display.
+     *
+     * @param message The message to show.
+     */
+    private static void showToast(@NotNull String message) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            Toast.toast(ToastType.INFO, "RepairKit", message);
+        }
+    }
 }
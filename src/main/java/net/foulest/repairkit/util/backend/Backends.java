@@ -0,0 +1,135 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.backend;
+
+import com.sun.jna.Platform;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Holds the backends that repairs use to reach the system.
+ * <p>
+ * The defaults run real commands and change the real registry, services and files.
+ * The elevation check uses the Win32 API on Windows and the effective user ID elsewhere.
+ * The repair simulator swaps in fake backends so the repair steps can run anywhere.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Backends {
+
+    private static volatile @NotNull CommandBackend commandBackend = new ProcessCommandBackend();
+    private static volatile @NotNull RegistryBackend registryBackend = new WindowsRegistryBackend();
+    private static volatile @NotNull ServiceBackend serviceBackend = new CommandServiceBackend();
+    private static volatile @NotNull FileSystemBackend fileSystemBackend = new LocalFileSystemBackend();
+    private static volatile @NotNull ElevationBackend elevationBackend
+            = Platform.isWindows() ? new WindowsElevationBackend() : new PosixElevationBackend();
+
+    /**
+     * Gets the backend that runs commands.
+     *
+     * @return The command backend.
+     */
+    public static @NotNull CommandBackend getCommandBackend() {
+        return commandBackend;
+    }
+
+    /**
+     * Sets the backend that runs commands.
+     *
+     * @param backend The command backend.
+     */
+    public static void setCommandBackend(@NotNull CommandBackend backend) {
+        commandBackend = backend;
+    }
+
+    /**
+     * Gets the backend that reads and writes the registry.
+     *
+     * @return The registry backend.
+     */
+    public static @NotNull RegistryBackend getRegistryBackend() {
+        return registryBackend;
+    }
+
+    /**
+     * Sets the backend that reads and writes the registry.
+     *
+     * @param backend The registry backend.
+     */
+    public static void setRegistryBackend(@NotNull RegistryBackend backend) {
+        registryBackend = backend;
+    }
+
+    /**
+     * Gets the backend that queries and configures services.
+     *
+     * @return The service backend.
+     */
+    public static @NotNull ServiceBackend getServiceBackend() {
+        return serviceBackend;
+    }
+
+    /**
+     * Sets the backend that queries and configures services.
+     *
+     * @param backend The service backend.
+     */
+    public static void setServiceBackend(@NotNull ServiceBackend backend) {
+        serviceBackend = backend;
+    }
+
+    /**
+     * Gets the backend that finds, inspects and deletes files.
+     *
+     * @return The file system backend.
+     */
+    public static @NotNull FileSystemBackend getFileSystemBackend() {
+        return fileSystemBackend;
+    }
+
+    /**
+     * Sets the backend that finds, inspects and deletes files.
+     *
+     * @param backend The file system backend.
+     */
+    public static void setFileSystemBackend(@NotNull FileSystemBackend backend) {
+        fileSystemBackend = backend;
+    }
+
+    /**
+     * Gets the backend that checks for administrator rights.
+     *
+     * @return The elevation backend.
+     */
+    public static @NotNull ElevationBackend getElevationBackend() {
+        return elevationBackend;
+    }
+
+    /**
+     * Sets the backend that checks for administrator rights.
+     *
+     * @param backend The elevation backend.
+     */
+    public static void setElevationBackend(@NotNull ElevationBackend backend) {
+        elevationBackend = backend;
+    }
+}
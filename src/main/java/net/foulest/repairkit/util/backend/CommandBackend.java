@@ -0,0 +1,43 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.backend;
+
+import net.foulest.repairkit.util.CommandUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Runs commands for {@link CommandUtil}.
+ *
+ * @author Foulest
+ */
+@FunctionalInterface
+public interface CommandBackend {
+
+    /**
+     * Runs a command and waits for it to exit.
+     *
+     * @param command      The command to run, as passed to {@code cmd.exe /c}.
+     * @param lineConsumer The consumer of the command's output, or null to ignore it.
+     * @return The command's exit code.
+     * @throws IOException If the command couldn't be run.
+     */
+    int run(@NotNull String command, @Nullable CommandUtil.LineConsumer lineConsumer) throws IOException;
+}
@@ -0,0 +1,67 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.backend;
+
+import net.foulest.repairkit.util.CommandUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Queries and configures Windows services with {@code sc}.
+ * Services that don't exist on this system are ignored, as are stop requests for
+ * services that are already stopped or can't be stopped while running.
+ *
+ * @author Foulest
+ */
+public class CommandServiceBackend implements ServiceBackend {
+
+    // The exit code of sc for a service that isn't installed
+    private static final int ERROR_SERVICE_DOES_NOT_EXIST = 1060;
+
+    // The exit codes of sc stop for services that can't be stopped while running
+    private static final int ERROR_DEPENDENT_SERVICES_RUNNING = 1051;
+    private static final int ERROR_INVALID_SERVICE_CONTROL = 1052;
+
+    // The exit code of sc stop for a service that isn't running
+    private static final int ERROR_SERVICE_NOT_ACTIVE = 1062;
+
+    @Override
+    public void setStartType(@NotNull String service, @NotNull String startType) {
+        int exitCode = CommandUtil.runCommandForExitCode("sc config \"" + service + "\" start=" + startType);
+
+        if (exitCode != 0 && exitCode != ERROR_SERVICE_DOES_NOT_EXIST) {
+            throw new IllegalStateException("Failed to set start type of service " + service
+                    + " (exit code " + exitCode + ")");
+        }
+    }
+
+    @Override
+    public void stop(@NotNull String service) {
+        int exitCode = CommandUtil.runCommandForExitCode("sc stop \"" + service + "\"");
+
+        if (exitCode != 0 && exitCode != ERROR_SERVICE_DOES_NOT_EXIST && exitCode != ERROR_SERVICE_NOT_ACTIVE
+                && exitCode != ERROR_DEPENDENT_SERVICES_RUNNING && exitCode != ERROR_INVALID_SERVICE_CONTROL) {
+            throw new IllegalStateException("Failed to stop service " + service + " (exit code " + exitCode + ")");
+        }
+    }
+
+    @Override
+    public boolean isRunning(@NotNull String service) {
+        return CommandUtil.getCommandOutput("sc query \"" + service + "\"",
+                false, false).toString().contains("RUNNING");
+    }
+}
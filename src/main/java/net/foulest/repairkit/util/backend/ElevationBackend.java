@@ -0,0 +1,34 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.backend;
+
+/**
+ * Checks whether RepairKit is running with administrator rights.
+ *
+ * @author Foulest
+ */
+@FunctionalInterface
+public interface ElevationBackend {
+
+    /**
+     * Checks if the current process is elevated.
+     *
+     * @return Whether the current process runs with administrator (or root) rights.
+     */
+    boolean isElevated();
+}
@@ -0,0 +1,85 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.backend;
+
+import net.foulest.repairkit.util.junk.TempFileCleaner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+/**
+ * Finds, inspects and deletes files for the junk file cleanup.
+ *
+ * @author Foulest
+ */
+public interface FileSystemBackend {
+
+    /**
+     * Cleans a temp folder, skipping folders unchanged since the previous cleanup.
+     *
+     * @param cleaner   The cleaner, configured for the folder.
+     * @param indexFile The file holding the index of folders seen by the previous cleanup.
+     * @return The cleanup result.
+     */
+    @NotNull TempFileCleaner.Result cleanTempFolder(@NotNull TempFileCleaner cleaner, @NotNull Path indexFile);
+
+    /**
+     * Opens a search of every file on the system.
+     *
+     * @return The search, or null if searching isn't available.
+     */
+    @Nullable FileSearch openFileSearch();
+
+    /**
+     * Reads a file's attributes.
+     *
+     * @param file The file to read.
+     * @return The file's attributes.
+     * @throws IOException If the attributes couldn't be read.
+     */
+    @NotNull BasicFileAttributes readAttributes(@NotNull Path file) throws IOException;
+
+    /**
+     * Deletes a file.
+     *
+     * @param file The file to delete.
+     * @throws IOException If the file couldn't be deleted.
+     */
+    void delete(@NotNull Path file) throws IOException;
+
+    /**
+     * A search of every file on the system, open until closed.
+     */
+    interface FileSearch extends AutoCloseable {
+
+        /**
+         * Finds files whose paths match a regular expression.
+         *
+         * @param pattern The regular expression to match.
+         * @return The paths of the matching files.
+         */
+        @NotNull List<String> find(@NotNull String pattern);
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.backend;
+
+import net.foulest.repairkit.util.CommandUtil;
+import net.foulest.repairkit.util.FileUtil;
+import net.foulest.repairkit.util.ProcessUtil;
+import net.foulest.repairkit.util.SwingUtil;
+import net.foulest.repairkit.util.junk.DirectoryIndex;
+import net.foulest.repairkit.util.junk.TempFileCleaner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+/**
+ * Finds, inspects and deletes files on the local file system.
+ * Searches use the bundled Everything Command Line tool.
+ *
+ * @author Foulest
+ */
+public class LocalFileSystemBackend implements FileSystemBackend {
+
+    @Override
+    public @NotNull TempFileCleaner.Result cleanTempFolder(@NotNull TempFileCleaner cleaner, @NotNull Path indexFile) {
+        @NotNull DirectoryIndex index = DirectoryIndex.load(indexFile);
+        cleaner.setIndex(index);
+        @NotNull TempFileCleaner.Result result = cleaner.clean();
+
+        // Dry runs don't change anything, so the previous index stays valid.
+        if (!cleaner.isDryRun()) {
+            index.save(indexFile);
+        }
+        return result;
+    }
+
+    @Override
+    public @Nullable FileSearch openFileSearch() {
+        // Checks if Everything was already running.
+        boolean everythingRunningBefore = ProcessUtil.isProcessRunning("Everything-RepairKit.exe");
+
+        // Quietly extracts and launches Everything.
+        @NotNull String path = FileUtil.tempDirectory.getPath();
+        SwingUtil.launchApplication("Everything.7z", "\\Everything-RepairKit.exe", "-startup", true, path);
+
+        // Saves the Everything Command Line tool to the temp directory, unless it's already there.
+        if (!FileUtil.saveResource("bin/es.exe", FileUtil.tempDirectory + "\\es.exe")) {
+            JOptionPane.showMessageDialog(null,
+                    "Failed to load Everything Command Line file.",
+                    "Error", JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+
+        return new FileSearch() {
+            @Override
+            public @NotNull List<String> find(@NotNull String pattern) {
+                return CommandUtil.getCommandOutput("\"" + FileUtil.tempDirectory + "\\es.exe\" -r " + pattern, false, false);
+            }
+
+            @Override
+            public void close() {
+                // Kills the Everything process if it wasn't running before, otherwise leaves it running.
+                if (!everythingRunningBefore) {
+                    ProcessUtil.killProcess("Everything-RepairKit.exe");
+                }
+            }
+        };
+    }
+
+    @Override
+    public @NotNull BasicFileAttributes readAttributes(@NotNull Path file) throws IOException {
+        return Files.readAttributes(file, BasicFileAttributes.class);
+    }
+
+    @Override
+    public void delete(@NotNull Path file) throws IOException {
+        Files.delete(file);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.backend;
+
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import net.foulest.repairkit.util.DebugUtil;
+
+/**
+ * Checks for root rights on POSIX systems by reading the process's effective user ID.
+ * Used when RepairKit runs outside Windows, such as in the repair simulator.
+ *
+ * @author Foulest
+ */
+public class PosixElevationBackend implements ElevationBackend {
+
+    @Override
+    public boolean isElevated() {
+        try {
+            return CLibrary.INSTANCE.geteuid() == 0;
+        } catch (LinkageError ex) {
+            DebugUtil.warn("Failed to read the effective user ID", ex);
+            return false;
+        }
+    }
+
+    /**
+     * The functions of the C library used to check for root rights.
+     */
+    private interface CLibrary extends Library {
+
+        CLibrary INSTANCE = Native.load("c", CLibrary.class);
+
+        /**
+         * Gets the effective user ID of the calling process.
+         *
+         * @return The effective user ID.
+         */
+        int geteuid();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.backend;
+
+import com.sun.jna.platform.win32.WinReg;
+import net.foulest.repairkit.util.RegistryUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Reads and writes the registry for {@link RegistryUtil}.
+ *
+ * @author Foulest
+ */
+public interface RegistryBackend {
+
+    /**
+     * Sets an int value, creating its key if needed.
+     *
+     * @param hkey    The root key.
+     * @param keyPath The path of the key.
+     * @param keyName The name of the value.
+     * @param value   The value to set.
+     */
+    void setIntValue(WinReg.HKEY hkey, @NotNull String keyPath, @NotNull String keyName, int value);
+
+    /**
+     * Sets a string value, creating its key if needed.
+     *
+     * @param hkey    The root key.
+     * @param keyPath The path of the key.
+     * @param keyName The name of the value.
+     * @param value   The value to set.
+     */
+    void setStringValue(WinReg.HKEY hkey, @NotNull String keyPath, @NotNull String keyName, @NotNull String value);
+
+    /**
+     * Deletes a value if it exists.
+     *
+     * @param hkey    The root key.
+     * @param keyPath The path of the key.
+     * @param keyName The name of the value.
+     */
+    void deleteValue(WinReg.HKEY hkey, @NotNull String keyPath, @NotNull String keyName);
+
+    /**
+     * Deletes a key if it exists.
+     *
+     * @param hkey    The root key.
+     * @param keyPath The path of the key.
+     */
+    void deleteKey(WinReg.HKEY hkey, @NotNull String keyPath);
+
+    /**
+     * Lists the sub keys of a key.
+     *
+     * @param hkey    The root key.
+     * @param keyPath The path of the key.
+     * @return The names of the sub keys.
+     */
+    @NotNull List<String> listSubKeys(WinReg.HKEY hkey, @NotNull String keyPath);
+}
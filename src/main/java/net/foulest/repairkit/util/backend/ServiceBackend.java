@@ -0,0 +1,54 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.backend;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Queries and configures Windows services.
+ * Failed changes throw, so the tasks making them are counted as failed.
+ *
+ * @author Foulest
+ */
+public interface ServiceBackend {
+
+    /**
+     * Sets a service's start type.
+     *
+     * @param service   The name of the service.
+     * @param startType The start type, as accepted by {@code sc config}, such as {@code disabled}.
+     * @throws IllegalStateException If the start type couldn't be set.
+     */
+    void setStartType(@NotNull String service, @NotNull String startType);
+
+    /**
+     * Stops a service.
+     *
+     * @param service The name of the service.
+     * @throws IllegalStateException If the service couldn't be stopped.
+     */
+    void stop(@NotNull String service);
+
+    /**
+     * Checks if a service is running.
+     *
+     * @param service The name of the service.
+     * @return Whether the service is running.
+     */
+    boolean isRunning(@NotNull String service);
+}
@@ -0,0 +1,57 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.backend;
+
+import com.sun.jna.platform.win32.Advapi32;
+import com.sun.jna.platform.win32.Kernel32;
+import com.sun.jna.platform.win32.WinNT;
+import com.sun.jna.ptr.IntByReference;
+import net.foulest.repairkit.util.DebugUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Checks for administrator rights by querying the elevation of the process's access token.
+ *
+ * @author Foulest
+ */
+public class WindowsElevationBackend implements ElevationBackend {
+
+    @Override
+    public boolean isElevated() {
+        WinNT.@NotNull HANDLEByReference token = new WinNT.HANDLEByReference();
+
+        if (!Advapi32.INSTANCE.OpenProcessToken(Kernel32.INSTANCE.GetCurrentProcess(), WinNT.TOKEN_QUERY, token)) {
+            DebugUtil.debug("Failed to open the process token (error {})", Kernel32.INSTANCE.GetLastError());
+            return false;
+        }
+
+        try {
+            @NotNull WinNT.TOKEN_ELEVATION elevation = new WinNT.TOKEN_ELEVATION();
+            @NotNull IntByReference returnLength = new IntByReference();
+
+            if (!Advapi32.INSTANCE.GetTokenInformation(token.getValue(), WinNT.TOKEN_INFORMATION_CLASS.TokenElevation,
+                    elevation, elevation.size(), returnLength)) {
+                DebugUtil.debug("Failed to query the token elevation (error {})", Kernel32.INSTANCE.GetLastError());
+                return false;
+            }
+            return elevation.TokenIsElevated != 0;
+        } finally {
+            Kernel32.INSTANCE.CloseHandle(token.getValue());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.backend;
+
+import com.sun.jna.Native;
+import com.sun.jna.platform.win32.*;
+import com.sun.jna.ptr.IntByReference;
+import net.foulest.repairkit.util.DebugUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes the Windows registry through the Win32 API.
+ *
+ * @author Foulest
+ */
+public class WindowsRegistryBackend implements RegistryBackend {
+
+    @Override
+    public void setIntValue(WinReg.HKEY hkey, @NotNull String keyPath, @NotNull String keyName, int value) {
+        createKeyIfNeeded(hkey, keyPath);
+        Advapi32Util.registrySetIntValue(hkey, keyPath, keyName, value);
+    }
+
+    @Override
+    public void setStringValue(WinReg.HKEY hkey, @NotNull String keyPath, @NotNull String keyName, @NotNull String value) {
+        createKeyIfNeeded(hkey, keyPath);
+        Advapi32Util.registrySetStringValue(hkey, keyPath, keyName, value);
+    }
+
+    @Override
+    public void deleteValue(WinReg.HKEY hkey, @NotNull String keyPath, @NotNull String keyName) {
+        if (Advapi32Util.registryValueExists(hkey, keyPath, keyName)) {
+            Advapi32Util.registryDeleteValue(hkey, keyPath, keyName);
+        }
+    }
+
+    @Override
+    public void deleteKey(WinReg.HKEY hkey, @NotNull String keyPath) {
+        if (Advapi32Util.registryKeyExists(hkey, keyPath)) {
+            Advapi32Util.registryDeleteKey(hkey, keyPath);
+        }
+    }
+
+    @Override
+    public @NotNull List<String> listSubKeys(WinReg.HKEY root, @NotNull String keyPath) {
+        @NotNull List<String> subKeysList = new ArrayList<>();
+        WinReg.@NotNull HKEYByReference hkeyRef = Advapi32Util.registryGetKey(root, keyPath, WinNT.KEY_READ);
+        WinReg.HKEY hkey = hkeyRef.getValue();
+
+        try {
+            @NotNull IntByReference lpcSubKeys = new IntByReference();
+            @NotNull IntByReference lpcMaxSubKeyLen = new IntByReference();
+
+            if (Advapi32.INSTANCE.RegQueryInfoKey(hkey, null, null, null,
+                    lpcSubKeys, lpcMaxSubKeyLen, null, null, null,
+                    null, null, null) == WinError.ERROR_SUCCESS) {
+                int maxSubKeyLen = lpcMaxSubKeyLen.getValue() + 1; // account for null-terminator
+                char @NotNull [] nameBuffer = new char[maxSubKeyLen];
+
+                for (int index = 0; index < lpcSubKeys.getValue(); index++) {
+                    @NotNull IntByReference lpcchValueName = new IntByReference(maxSubKeyLen);
+
+                    if (Advapi32.INSTANCE.RegEnumKeyEx(hkey, index, nameBuffer, lpcchValueName,
+                            null, null, null, null) == WinError.ERROR_SUCCESS) {
+                        subKeysList.add(Native.toString(nameBuffer));
+                    }
+                }
+            }
+        } finally {
+            DebugUtil.trace("Closing registry key: {}", keyPath);
+            Advapi32.INSTANCE.RegCloseKey(hkey);
+        }
+        return subKeysList;
+    }
+
+    /**
+     * Creates a registry key if it doesn't exist.
+     *
+     * @param hkey    The root key.
+     * @param keyPath The path of the key.
+     */
+    private static void createKeyIfNeeded(WinReg.HKEY hkey, @NotNull String keyPath) {
+        if (!Advapi32Util.registryKeyExists(hkey, keyPath)) {
+            DebugUtil.trace("Creating registry key: {}", keyPath);
+            Advapi32Util.registryCreateKey(hkey, keyPath);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -46,12 +47,31 @@ public class ConfigLoader {
      */
     public ConfigLoader(@NotNull File file) {
         try (@NotNull FileReader reader = new FileReader(file, StandardCharsets.UTF_8)) {
-            Type type = new TypeToken<Map<String, Map<String, Object>>>() {
-            }.getType();
-
-            config = new Gson().fromJson(reader, type);
+            config = parse(reader);
         } catch (IOException ex) {
             throw new RuntimeException("Failed to load config file: " + file.getName(), ex);
         }
     }
+
+    /**
+     * Constructs a new config loader instance.
+     *
+     * @param reader The reader to load the config from
+     */
+    public ConfigLoader(@NotNull Reader reader) {
+        config = parse(reader);
+    }
+
+    /**
+     * Parses a config.
+     *
+     * @param reader The reader to parse the config from
+     * @return The parsed config
+     */
+    private static Map<String, Map<String, Object>> parse(@NotNull Reader reader) {
+        Type type = new TypeToken<Map<String, Map<String, Object>>>() {
+        }.getType();
+
+        return new Gson().fromJson(reader, type);
+    }
 }
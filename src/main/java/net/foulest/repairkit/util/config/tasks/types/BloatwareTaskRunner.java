@@ -50,14 +50,7 @@ public class BloatwareTaskRunner extends AbstractTaskRunner {
         @NotNull List<String> output = CommandUtil.getPowerShellCommandOutput("(Get-AppxPackage).ForEach({ $_.Name })", false, false);
         @NotNull Collection<String> installedPackages = new HashSet<>(output);
 
-        @NotNull List<Pattern> patternsToRemove = values.stream()
-                .map(pkg -> pkg.replace(".", "\\.").replace("*", ".*"))
-                .map(Pattern::compile)
-                .toList();
-
-        @NotNull List<String> packagesToRemove = installedPackages.stream()
-                .filter(installedPackage -> patternsToRemove.stream().anyMatch(pattern -> pattern.matcher(installedPackage).matches()))
-                .toList();
+        @NotNull List<String> packagesToRemove = findPackagesToRemove(installedPackages, values);
 
         if (packagesToRemove.isEmpty()) {
             return tasks;
@@ -73,4 +66,24 @@ public class BloatwareTaskRunner extends AbstractTaskRunner {
         });
         return tasks;
     }
+
+    /**
+     * Finds the installed packages matching any of the bloatware patterns.
+     * Patterns match whole package names, with {@code *} matching any characters.
+     *
+     * @param installedPackages The names of the installed packages.
+     * @param patterns          The bloatware patterns from the config.
+     * @return The installed packages to remove.
+     */
+    public static @NotNull List<String> findPackagesToRemove(@NotNull Collection<String> installedPackages,
+                                                             @NotNull Collection<String> patterns) {
+        @NotNull List<Pattern> patternsToRemove = patterns.stream()
+                .map(pkg -> pkg.replace(".", "\\.").replace("*", ".*"))
+                .map(Pattern::compile)
+                .toList();
+
+        return installedPackages.stream()
+                .filter(installedPackage -> patternsToRemove.stream().anyMatch(pattern -> pattern.matcher(installedPackage).matches()))
+                .toList();
+    }
 }
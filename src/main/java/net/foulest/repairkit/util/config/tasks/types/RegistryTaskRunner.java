@@ -18,14 +18,18 @@
 package net.foulest.repairkit.util.config.tasks.types;
 
 import com.sun.jna.platform.win32.WinReg;
+import lombok.Data;
 import net.foulest.repairkit.util.DebugUtil;
 import net.foulest.repairkit.util.RegistryUtil;
 import net.foulest.repairkit.util.config.tasks.AbstractTaskRunner;
+import net.foulest.repairkit.util.jfr.RegistryBatchAppliedEvent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The task runner for modifying the Windows registry.
@@ -50,78 +54,120 @@ public class RegistryTaskRunner extends AbstractTaskRunner {
         @NotNull List<Runnable> tasks = new ArrayList<>();
         Map<String, Object> values = (Map<String, Object>) entries.get("values");
 
+        @NotNull RegistryBatchAppliedEvent event = new RegistryBatchAppliedEvent();
+        @NotNull AtomicInteger invalid = new AtomicInteger();
+        event.begin();
+
         values.forEach((key, value) -> {
-            String keyPath;
-            @NotNull String keyName = "";
-            WinReg.HKEY hkey;
-            RegistryAction action;
-            Object keyValue = value;
-
-            // Get the HKEY of the path.
-            if (key.startsWith("HKEY_LOCAL_MACHINE") || key.startsWith("HKLM")) {
-                hkey = WinReg.HKEY_LOCAL_MACHINE;
-                keyPath = key.replace("HKEY_LOCAL_MACHINE\\", "").replace("HKLM\\", "");
-            } else if (key.startsWith("HKEY_CURRENT_USER") || key.startsWith("HKCU")) {
-                hkey = WinReg.HKEY_CURRENT_USER;
-                keyPath = key.replace("HKEY_CURRENT_USER\\", "").replace("HKCU\\", "");
-            } else {
-                DebugUtil.debug("Invalid key: " + key);
-                return;
-            }
+            @Nullable RegistryChange change = parseChange(key, value);
 
-            // Get the registry action from the path.
-            if (value instanceof String) {
-                if (value.equals("DELETE_VALUE")) {
-                    action = RegistryAction.DELETE_VALUE;
-                } else if (value.equals("DELETE_KEY")) {
-                    action = RegistryAction.DELETE_KEY;
-                } else {
-                    action = RegistryAction.SET_STRING_VALUE;
-                }
-            } else if (value instanceof Integer || value instanceof Double) {
-                keyValue = value instanceof Double ? ((Double) value).intValue() : value;
-                action = RegistryAction.SET_INT_VALUE;
-            } else {
-                DebugUtil.debug("Invalid value: " + value);
+            if (change == null) {
+                invalid.incrementAndGet();
                 return;
             }
 
-            // Separate the key name from the path.
-            if (action != RegistryAction.DELETE_KEY) {
-                int index = keyPath.lastIndexOf('\\');
-                keyName = keyPath.substring(index + 1);
-                keyPath = keyPath.substring(0, index);
-            }
-
             // Execute the associated action.
-            switch (action) {
+            switch (change.getAction()) {
                 case SET_INT_VALUE:
-                    RegistryUtil.setRegistryIntValue(hkey, keyPath, keyName, (Integer) keyValue);
+                    RegistryUtil.setRegistryIntValue(change.getHkey(), change.getKeyPath(),
+                            change.getKeyName(), (Integer) change.getValue());
                     break;
 
                 case SET_STRING_VALUE:
-                    RegistryUtil.setRegistryStringValue(hkey, keyPath, keyName, (String) keyValue);
+                    RegistryUtil.setRegistryStringValue(change.getHkey(), change.getKeyPath(),
+                            change.getKeyName(), (String) change.getValue());
                     break;
 
                 case DELETE_VALUE:
-                    RegistryUtil.deleteRegistryValue(hkey, keyPath, keyName);
+                    RegistryUtil.deleteRegistryValue(change.getHkey(), change.getKeyPath(), change.getKeyName());
                     break;
 
                 case DELETE_KEY:
-                    RegistryUtil.deleteRegistryKey(hkey, keyPath);
+                    RegistryUtil.deleteRegistryKey(change.getHkey(), change.getKeyPath());
                     break;
 
                 default:
                     break;
             }
         });
+
+        event.setValues(values.size());
+        event.setInvalid(invalid.get());
+        event.setApplied(values.size() - invalid.get());
+        event.commit();
         return tasks;
     }
 
+    /**
+     * Parses a config entry into the registry change it describes.
+     * Doesn't touch the registry, so it can run on any platform.
+     *
+     * @param key   The full path of the key or value, starting with its hive (e.g. {@code HKLM\...}).
+     * @param value The value to set, or {@code DELETE_VALUE} or {@code DELETE_KEY}.
+     * @return The registry change, or null if the entry is invalid.
+     */
+    public static @Nullable RegistryChange parseChange(@NotNull String key, @Nullable Object value) {
+        String keyPath;
+        @NotNull String keyName = "";
+        WinReg.HKEY hkey;
+        RegistryAction action;
+        Object keyValue = value;
+
+        // Get the HKEY of the path.
+        if (key.startsWith("HKEY_LOCAL_MACHINE") || key.startsWith("HKLM")) {
+            hkey = WinReg.HKEY_LOCAL_MACHINE;
+            keyPath = key.replace("HKEY_LOCAL_MACHINE\\", "").replace("HKLM\\", "");
+        } else if (key.startsWith("HKEY_CURRENT_USER") || key.startsWith("HKCU")) {
+            hkey = WinReg.HKEY_CURRENT_USER;
+            keyPath = key.replace("HKEY_CURRENT_USER\\", "").replace("HKCU\\", "");
+        } else {
+            DebugUtil.debug("Invalid key: {}", key);
+            return null;
+        }
+
+        // Get the registry action from the path.
+        if (value instanceof String) {
+            if (value.equals("DELETE_VALUE")) {
+                action = RegistryAction.DELETE_VALUE;
+            } else if (value.equals("DELETE_KEY")) {
+                action = RegistryAction.DELETE_KEY;
+            } else {
+                action = RegistryAction.SET_STRING_VALUE;
+            }
+        } else if (value instanceof Integer || value instanceof Double) {
+            keyValue = value instanceof Double ? ((Double) value).intValue() : value;
+            action = RegistryAction.SET_INT_VALUE;
+        } else {
+            DebugUtil.debug("Invalid value: {}", value);
+            return null;
+        }
+
+        // Separate the key name from the path.
+        if (action != RegistryAction.DELETE_KEY) {
+            int index = keyPath.lastIndexOf('\\');
+            keyName = keyPath.substring(index + 1);
+            keyPath = keyPath.substring(0, index);
+        }
+        return new RegistryChange(hkey, keyPath, keyName, action, keyValue);
+    }
+
+    /**
+     * Represents a change to the registry described by a config entry.
+     */
+    @Data
+    public static class RegistryChange {
+
+        private final WinReg.HKEY hkey;
+        private final @NotNull String keyPath;
+        private final @NotNull String keyName;
+        private final @NotNull RegistryAction action;
+        private final @Nullable Object value;
+    }
+
     /**
      * Represents the registry action.
      */
-    private enum RegistryAction {
+    public enum RegistryAction {
         SET_INT_VALUE,
         SET_STRING_VALUE,
         DELETE_VALUE,
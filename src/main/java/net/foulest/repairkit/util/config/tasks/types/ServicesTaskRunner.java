@@ -17,8 +17,9 @@
  */
 package net.foulest.repairkit.util.config.tasks.types;
 
-import net.foulest.repairkit.util.CommandUtil;
 import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.backend.Backends;
+import net.foulest.repairkit.util.backend.ServiceBackend;
 import net.foulest.repairkit.util.config.tasks.AbstractTaskRunner;
 import org.jetbrains.annotations.NotNull;
 
@@ -82,36 +83,38 @@ public class ServicesTaskRunner extends AbstractTaskRunner {
                     return;
                 }
 
+                @NotNull ServiceBackend services = Backends.getServiceBackend();
+
                 switch (action) {
                     case BOOT:
                         DebugUtil.debug("Setting service to boot: " + key);
-                        CommandUtil.runCommand("sc config \"" + key + "\" start=boot", true);
+                        services.setStartType(key, "boot");
                         break;
 
                     case SYSTEM:
                         DebugUtil.debug("Setting service to system: " + key);
-                        CommandUtil.runCommand("sc config \"" + key + "\" start=system", true);
+                        services.setStartType(key, "system");
                         break;
 
                     case AUTO:
                         DebugUtil.debug("Setting service to auto: " + key);
-                        CommandUtil.runCommand("sc config \"" + key + "\" start=auto", true);
+                        services.setStartType(key, "auto");
                         break;
 
                     case DEMAND:
                         DebugUtil.debug("Setting service to demand: " + key);
-                        CommandUtil.runCommand("sc config \"" + key + "\" start=demand", true);
+                        services.setStartType(key, "demand");
                         break;
 
                     case DISABLED:
                         DebugUtil.debug("Setting service to disabled: " + key);
-                        CommandUtil.runCommand("sc stop \"" + key + "\"", true);
-                        CommandUtil.runCommand("sc config \"" + key + "\" start=disabled", true);
+                        services.setStartType(key, "disabled");
+                        services.stop(key);
                         break;
 
                     case DELAYED_AUTO:
                         DebugUtil.debug("Setting service to delayed-auto: " + key);
-                        CommandUtil.runCommand("sc config \"" + key + "\" start=delayed-auto", true);
+                        services.setStartType(key, "delayed-auto");
                         break;
 
                     default:
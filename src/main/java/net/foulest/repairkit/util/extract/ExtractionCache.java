@@ -0,0 +1,465 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.extract;
+
+import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.FileUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A persistent cache of extracted bundled tools.
+ * <p>
+ * Each archive is extracted once into a folder named after its SHA-256 hash,
+ * so a tool is only extracted again when the bundled archive changes.
+ * Archives are extracted into a staging folder and renamed into place, so a
+ * cache entry is either complete or missing. Each entry has a manifest of its
+ * files and their hashes that is checked before the entry is first used in each
+ * run, and the least recently used entries are removed once the cache grows past
+ * its size budget.
+ *
+ * @author Foulest
+ */
+public class ExtractionCache {
+
+    /**
+     * The default maximum size of the cache, in bytes.
+     */
+    public static final long DEFAULT_SIZE_BUDGET = 512L * 1024 * 1024;
+
+    // The name of the manifest file in each cache entry
+    private static final String MANIFEST_NAME = ".manifest";
+
+    // The prefix of folders that archives are extracted into before being renamed into place
+    private static final String STAGING_PREFIX = ".staging-";
+
+    // Staging folders older than this are left over from a crashed extraction
+    private static final long STALE_STAGING_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    // File extensions whose hashes are checked; tools may rewrite their other files (e.g. settings)
+    private static final Set<String> VERIFIED_EXTENSIONS = Set.of(".exe", ".dll", ".sys");
+
+    private static final ExtractionCache DEFAULT = new ExtractionCache(
+            FileUtil.dataDirectory.toPath().resolve("tools"), DEFAULT_SIZE_BUDGET);
+
+    private final @NotNull Path directory;
+    private final long sizeBudget;
+
+    // Coordinates extractions so unrelated archives are extracted in parallel
+    private final @NotNull ExtractionCoordinator extractions = new ExtractionCoordinator();
+
+    // Held while evicting, so entries are only evicted by one thread at a time
+    private final @NotNull Object evictionLock = new Object();
+
+    // The hashes of entries whose files were hashed and matched their manifests in this run
+    private final @NotNull Set<String> verifiedHashes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a new extraction cache.
+     *
+     * @param directory  The folder to keep extracted archives in.
+     * @param sizeBudget The maximum size of the cache, in bytes.
+     */
+    public ExtractionCache(@NotNull Path directory, long sizeBudget) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.sizeBudget = sizeBudget;
+    }
+
+    /**
+     * Gets the extraction cache in the RepairKit data directory.
+     *
+     * @return The default extraction cache.
+     */
+    public static @NotNull ExtractionCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets the folder a bundled archive is extracted to, extracting it if it isn't cached yet.
+     *
+     * @param appResource The name of the archive in the bin resources.
+     * @return The folder containing the extracted files, or null if the archive couldn't be extracted.
+     */
+    public @Nullable Path getOrExtract(@NotNull String appResource) {
+        return extractions.run(appResource, () -> lookupOrInstall(appResource));
+    }
+
+    /**
+     * Looks up a cached archive, extracting it if it isn't cached yet.
+     * Only runs on one thread at a time for each archive.
+     *
+     * @param appResource The name of the archive in the bin resources.
+     * @return The folder containing the extracted files, or null if the archive couldn't be extracted.
+     */
+    private @Nullable Path lookupOrInstall(@NotNull String appResource) {
+        @Nullable String hash = FileUtil.getResourceHash("bin/" + appResource);
+
+        if (hash == null) {
+            return null;
+        }
+
+        @NotNull Path entry = directory.resolve(hash);
+
+        // Uses the cached entry if it's still intact.
+        if (Files.isDirectory(entry)) {
+            if (verify(entry, hash)) {
+                touch(entry);
+                DebugUtil.debug("Using cached extraction of {}: {}", appResource, entry);
+                return entry;
+            }
+
+            DebugUtil.debug("Cached extraction of {} is damaged; extracting it again", appResource);
+            verifiedHashes.remove(hash);
+            deleteRecursively(entry);
+        }
+
+        long startTime = System.currentTimeMillis();
+        @Nullable Path installed = install(appResource, hash, entry);
+
+        if (installed != null) {
+            DebugUtil.debug("Cached extraction of {} in {} ms", appResource, System.currentTimeMillis() - startTime);
+            evict(hash);
+        }
+        return installed;
+    }
+
+    /**
+     * Extracts an archive into a staging folder and renames it into the cache.
+     *
+     * @param appResource The name of the archive in the bin resources.
+     * @param hash        The SHA-256 hash of the archive.
+     * @param entry       The cache entry to install the archive to.
+     * @return The installed cache entry, or null if the archive couldn't be extracted.
+     */
+    private @Nullable Path install(@NotNull String appResource, @NotNull String hash, @NotNull Path entry) {
+        @NotNull Path staging = directory.resolve(STAGING_PREFIX + hash + "-" + System.nanoTime());
+
+        try {
+            Files.createDirectories(staging);
+
+            // Extracts 7z archives straight from the classpath when possible,
+            // otherwise saves the archive and extracts it with FileUtil.
+            boolean extracted = appResource.endsWith(".7z")
+                    && SevenZipExtractor.extractResource("bin/" + appResource, staging);
+
+            if (!extracted && !saveAndExtract(appResource, staging)) {
+                deleteRecursively(staging);
+                return null;
+            }
+
+            if (!writeManifest(staging, hash)) {
+                DebugUtil.debug("Extraction of {} produced no files", appResource);
+                deleteRecursively(staging);
+                return null;
+            }
+
+            try {
+                Files.move(staging, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException | DirectoryNotEmptyException ex) {
+                // Another instance of RepairKit installed the same archive first.
+                deleteRecursively(staging);
+
+                if (!verify(entry, hash)) {
+                    return null;
+                }
+            }
+
+            // The files were just hashed while writing the manifest.
+            verifiedHashes.add(hash);
+            return entry;
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to cache extraction of {}", appResource, ex);
+            deleteRecursively(staging);
+            return null;
+        }
+    }
+
+    /**
+     * Saves a bundled archive to the temp directory and extracts it with {@link FileUtil#unzipFile}.
+     *
+     * @param appResource The name of the archive in the bin resources.
+     * @param staging     The folder to extract the archive to.
+     * @return Whether the archive was found.
+     */
+    private static boolean saveAndExtract(@NotNull String appResource, @NotNull Path staging) {
+        @NotNull Path archive = FileUtil.tempDirectory.toPath().resolve(appResource);
+
+        if (!FileUtil.saveResource("bin/" + appResource, archive.toString())) {
+            DebugUtil.debug("Bundled archive not found: {}", appResource);
+            return false;
+        }
+
+        FileUtil.unzipFile(archive.toString(), staging.toString());
+        return true;
+    }
+
+    /**
+     * Writes the manifest of an extracted archive.
+     * The first line holds the archive's hash; each other line holds a file's size, SHA-256 hash and relative path.
+     *
+     * @param folder The folder the archive was extracted to.
+     * @param hash   The SHA-256 hash of the archive.
+     * @return Whether any files were extracted.
+     * @throws IOException If the folder couldn't be read or the manifest couldn't be written.
+     */
+    private static boolean writeManifest(@NotNull Path folder, @NotNull String hash) throws IOException {
+        @NotNull List<String> lines = new ArrayList<>();
+
+        try (@NotNull Stream<Path> files = Files.walk(folder)) {
+            for (@NotNull Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file)) {
+                    @NotNull String relativePath = folder.relativize(file).toString().replace('\\', '/');
+                    lines.add(Files.size(file) + "\t" + FileUtil.hashFile(file) + "\t" + relativePath);
+                }
+            }
+        }
+
+        if (lines.isEmpty()) {
+            return false;
+        }
+
+        try (@NotNull BufferedWriter writer = Files.newBufferedWriter(folder.resolve(MANIFEST_NAME), StandardCharsets.UTF_8)) {
+            writer.write(hash);
+            writer.newLine();
+
+            for (@NotNull String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that a cache entry is intact: every file in its manifest must exist,
+     * and executables and libraries must still have their extracted sizes.
+     * The first time an entry is checked in each run, the hashes of its executables
+     * and libraries are also compared against the manifest.
+     *
+     * @param entry The cache entry to check.
+     * @param hash  The SHA-256 hash of the archive the entry was extracted from.
+     * @return Whether the entry is intact.
+     */
+    private boolean verify(@NotNull Path entry, @NotNull String hash) {
+        boolean checkHashes = !verifiedHashes.contains(hash);
+
+        try {
+            @NotNull List<String> lines = Files.readAllLines(entry.resolve(MANIFEST_NAME), StandardCharsets.UTF_8);
+
+            if (lines.size() < 2 || !lines.get(0).equals(hash)) {
+                return false;
+            }
+
+            for (@NotNull String line : lines.subList(1, lines.size())) {
+                int sizeSeparator = line.indexOf('\t');
+                int hashSeparator = line.indexOf('\t', sizeSeparator + 1);
+
+                // Entries written without file hashes are extracted again.
+                if (sizeSeparator < 0 || hashSeparator < 0) {
+                    return false;
+                }
+
+                long size = Long.parseLong(line.substring(0, sizeSeparator));
+                @NotNull String fileHash = line.substring(sizeSeparator + 1, hashSeparator);
+                @NotNull String relativePath = line.substring(hashSeparator + 1);
+                @NotNull Path file = entry.resolve(relativePath).normalize();
+
+                if (!file.startsWith(entry) || !Files.isRegularFile(file)) {
+                    return false;
+                }
+
+                @NotNull String lowerPath = relativePath.toLowerCase(Locale.ROOT);
+                int extensionIndex = lowerPath.lastIndexOf('.');
+
+                if (extensionIndex >= 0 && VERIFIED_EXTENSIONS.contains(lowerPath.substring(extensionIndex))
+                        && (Files.size(file) != size || checkHashes && !FileUtil.hashFile(file).equals(fileHash))) {
+                    return false;
+                }
+            }
+
+            verifiedHashes.add(hash);
+            return true;
+        } catch (IOException | NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Marks a cache entry as recently used by updating its manifest's last modified time.
+     *
+     * @param entry The cache entry.
+     */
+    private static void touch(@NotNull Path entry) {
+        try {
+            Files.setLastModifiedTime(entry.resolve(MANIFEST_NAME), FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to update cache entry: {}", entry, ex);
+        }
+    }
+
+    /**
+     * Removes the least recently used entries until the cache fits its size budget,
+     * along with any staging folders left over from crashed extractions.
+     *
+     * @param keepHash The hash of the entry that was just used, which is never removed.
+     */
+    private void evict(@NotNull String keepHash) {
+        synchronized (evictionLock) {
+            evictLocked(keepHash);
+        }
+    }
+
+    /**
+     * Removes the least recently used entries while holding the eviction lock.
+     *
+     * @param keepHash The hash of the entry that was just used, which is never removed.
+     */
+    private void evictLocked(@NotNull String keepHash) {
+        @NotNull List<CachedEntry> entries = new ArrayList<>();
+        long totalSize = 0;
+
+        try (@NotNull DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (@NotNull Path path : stream) {
+                @NotNull String name = path.getFileName().toString();
+
+                if (name.startsWith(STAGING_PREFIX)) {
+                    long lastModified = Files.getLastModifiedTime(path).toMillis();
+
+                    if (System.currentTimeMillis() - lastModified > STALE_STAGING_MILLIS) {
+                        deleteRecursively(path);
+                    }
+                    continue;
+                }
+
+                @NotNull Path manifest = path.resolve(MANIFEST_NAME);
+
+                if (!Files.isRegularFile(manifest)) {
+                    continue;
+                }
+
+                long size = getManifestSize(manifest);
+                totalSize += size;
+                entries.add(new CachedEntry(path, name, size, Files.getLastModifiedTime(manifest).toMillis()));
+            }
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to list extraction cache: {}", directory, ex);
+            return;
+        }
+
+        if (totalSize <= sizeBudget) {
+            return;
+        }
+
+        // Removes the least recently used entries first.
+        entries.sort(Comparator.comparingLong(entry -> entry.lastUsed));
+
+        for (@NotNull CachedEntry entry : entries) {
+            if (totalSize <= sizeBudget) {
+                break;
+            }
+
+            if (entry.hash.equals(keepHash)) {
+                continue;
+            }
+
+            DebugUtil.debug("Evicting cached extraction: {} ({} bytes)", entry.path, entry.size);
+            deleteRecursively(entry.path);
+            totalSize -= entry.size;
+        }
+    }
+
+    /**
+     * Gets the total size of the files listed in a manifest.
+     *
+     * @param manifest The manifest file.
+     * @return The total size, in bytes.
+     * @throws IOException If the manifest couldn't be read.
+     */
+    private static long getManifestSize(@NotNull Path manifest) throws IOException {
+        long size = 0;
+
+        for (@NotNull String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+            int separator = line.indexOf('\t');
+
+            if (separator > 0) {
+                try {
+                    size += Long.parseLong(line.substring(0, separator));
+                } catch (NumberFormatException ignored) {
+                    // Damaged lines are ignored; the entry is replaced the next time it's used.
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Deletes a folder and everything in it, logging files that couldn't be deleted.
+     *
+     * @param folder The folder to delete.
+     */
+    private static void deleteRecursively(@NotNull Path folder) {
+        try {
+            Files.walkFileTree(folder, new SimpleFileVisitor<>() {
+                @Override
+                public @NotNull FileVisitResult visitFile(@NotNull Path file, @NotNull BasicFileAttributes attrs) throws IOException {
+                    Files.delete(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public @NotNull FileVisitResult postVisitDirectory(@NotNull Path dir, @Nullable IOException exc) throws IOException {
+                    Files.delete(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (NoSuchFileException ignored) {
+            // The folder was already removed.
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to delete folder: {}", folder, ex);
+        }
+    }
+
+    /**
+     * Represents an entry found while evicting.
+     */
+    private static final class CachedEntry {
+
+        private final @NotNull Path path;
+        private final @NotNull String hash;
+        private final long size;
+        private final long lastUsed;
+
+        private CachedEntry(@NotNull Path path, @NotNull String hash, long size, long lastUsed) {
+            this.path = path;
+            this.hash = hash;
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.extract;
+
+import net.foulest.repairkit.util.DebugUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coordinates extractions so each archive is only extracted by one thread at a time.
+ * <p>
+ * The first thread to request an archive runs the extraction; threads requesting
+ * the same archive while it's in flight wait for that extraction's result instead
+ * of starting their own. Extractions of different archives run in parallel.
+ *
+ * @author Foulest
+ */
+public class ExtractionCoordinator {
+
+    // The extractions currently running, by key
+    private final @NotNull Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs an extraction, or waits for the one already running for the same key.
+     *
+     * @param key        The key identifying the extraction, such as the archive name.
+     * @param extraction The extraction to run, returning the extracted folder or file.
+     * @return The result of the extraction, or null if it failed.
+     */
+    public @Nullable Path run(@NotNull String key, @NotNull Supplier<Path> extraction) {
+        @NotNull CompletableFuture<Path> future = new CompletableFuture<>();
+        @Nullable CompletableFuture<Path> running = inFlight.putIfAbsent(key, future);
+
+        // Waits for the extraction another thread is already running.
+        if (running != null) {
+            DebugUtil.debug("Waiting for in-flight extraction: {}", key);
+
+            try {
+                return running.join();
+            } catch (CompletionException ex) {
+                return null;
+            }
+        }
+
+        try {
+            @Nullable Path result = extraction.get();
+            future.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            // Errors are passed on too, so waiting threads never hang.
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.extract;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.FileUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Utility class for recording how often each bundled tool is launched.
+ * <p>
+ * Launch counts are kept on this machine only, in the RepairKit data
+ * directory, and are used to decide which tools to extract ahead of time.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LaunchStats {
+
+    private static final Gson GSON = new Gson();
+    private static final Path STATS_FILE = FileUtil.dataDirectory.toPath().resolve("launch_stats.json");
+
+    // The launch counts, loaded on first use
+    private static @Nullable Map<String, Integer> launchCounts;
+
+    /**
+     * Records a launch of a bundled tool.
+     *
+     * @param appResource The name of the tool's archive in the bin resources.
+     */
+    public static synchronized void recordLaunch(@NotNull String appResource) {
+        @NotNull Map<String, Integer> counts = getLaunchCounts();
+        counts.merge(appResource, 1, Integer::sum);
+        save(counts);
+    }
+
+    /**
+     * Gets the most launched tools, most launched first.
+     *
+     * @param limit The maximum number of tools to return.
+     * @return The names of the tools' archives in the bin resources.
+     */
+    public static synchronized @NotNull List<String> getMostLaunched(int limit) {
+        @NotNull List<Map.Entry<String, Integer>> entries = new ArrayList<>(getLaunchCounts().entrySet());
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+        @NotNull List<String> mostLaunched = new ArrayList<>();
+
+        for (Map.@NotNull Entry<String, Integer> entry : entries) {
+            if (mostLaunched.size() >= limit) {
+                break;
+            }
+
+            mostLaunched.add(entry.getKey());
+        }
+        return mostLaunched;
+    }
+
+    /**
+     * Gets the launch counts, loading them from disk on first use.
+     *
+     * @return The launch counts.
+     */
+    private static @NotNull Map<String, Integer> getLaunchCounts() {
+        if (launchCounts == null) {
+            launchCounts = load();
+        }
+        return launchCounts;
+    }
+
+    /**
+     * Loads the launch counts from disk.
+     * A missing or unreadable file results in empty counts.
+     *
+     * @return The loaded launch counts.
+     */
+    private static @NotNull Map<String, Integer> load() {
+        try (@NotNull Reader reader = Files.newBufferedReader(STATS_FILE, StandardCharsets.UTF_8)) {
+            Type type = new TypeToken<Map<String, Integer>>() {
+            }.getType();
+
+            @Nullable Map<String, Integer> counts = GSON.fromJson(reader, type);
+            return counts == null ? new HashMap<>() : new HashMap<>(counts);
+        } catch (NoSuchFileException ex) {
+            return new HashMap<>();
+        } catch (IOException | JsonParseException ex) {
+            DebugUtil.warn("Failed to load launch stats: {}", STATS_FILE, ex);
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Saves the launch counts to disk, replacing the file atomically.
+     *
+     * @param counts The launch counts.
+     */
+    private static void save(@NotNull Map<String, Integer> counts) {
+        @NotNull Path tempFile = STATS_FILE.resolveSibling(STATS_FILE.getFileName() + ".tmp");
+
+        try {
+            Files.createDirectories(STATS_FILE.getParent());
+
+            try (@NotNull Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                GSON.toJson(counts, writer);
+            }
+
+            Files.move(tempFile, STATS_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to save launch stats: {}", STATS_FILE, ex);
+        }
+    }
+}
@@ -0,0 +1,524 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.extract;
+
+import lombok.Data;
+import net.foulest.repairkit.RepairKit;
+import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.FileUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * An indexed pack of the bundled tools, built by the {@code buildResourcePack} Gradle task.
+ * <p>
+ * The pack starts with a header index listing each entry's name, compression
+ * method, offset, stored and uncompressed sizes and SHA-256 hash, followed by
+ * the entries' data. The pack is memory-mapped, so any single entry can be
+ * streamed out without reading the others, and hashes come from the index
+ * instead of being computed.
+ * <p>
+ * The pack is only shipped inside the jar. It's copied out into the data
+ * directory, as it can't be mapped from inside the jar, and the copy is reused
+ * while its index matches the jar's. If the copy can't be made or opened, entries
+ * are streamed out of the jar's pack instead. When the jar has no pack (e.g.
+ * running from an IDE), resources are read from the classpath as before.
+ *
+ * @author Foulest
+ */
+public final class ResourcePack {
+
+    /**
+     * The prefix of resources stored in the pack.
+     */
+    public static final String RESOURCE_PREFIX = "bin/";
+
+    /**
+     * The file name of the pack.
+     */
+    public static final String PACK_NAME = "tools.pack";
+
+    /**
+     * Entries stored without compression.
+     */
+    public static final int METHOD_STORED = 0;
+
+    /**
+     * Entries compressed with zlib-wrapped deflate.
+     */
+    public static final int METHOD_DEFLATED = 1;
+
+    private static final int MAGIC = 0x524B504B; // "RKPK"
+    private static final int VERSION = 1;
+
+    // The size of the magic number, version and index length at the start of the pack
+    private static final int HEADER_SIZE = 12;
+
+    // Whether the default pack was looked up yet, and the pack that was found
+    private static boolean defaultLoaded;
+    private static @Nullable ResourcePack defaultPack;
+
+    // The index of the pack inside the jar, read when the default pack can't be opened
+    private static @Nullable Map<String, Entry> jarIndex;
+
+    private final @NotNull Path file;
+    private final @NotNull MappedByteBuffer buffer;
+    private final @NotNull Map<String, Entry> entries;
+
+    /**
+     * Creates a new resource pack.
+     *
+     * @param file    The pack file.
+     * @param buffer  The mapped contents of the pack.
+     * @param entries The entries in the pack, by name.
+     */
+    private ResourcePack(@NotNull Path file, @NotNull MappedByteBuffer buffer, @NotNull Map<String, Entry> entries) {
+        this.file = file;
+        this.buffer = buffer;
+        this.entries = entries;
+    }
+
+    /**
+     * Opens a resource pack, mapping it into memory.
+     *
+     * @param file The pack file.
+     * @return The opened pack.
+     * @throws IOException If the pack couldn't be read or isn't a valid pack.
+     */
+    public static @NotNull ResourcePack open(@NotNull Path file) throws IOException {
+        try (@NotNull FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            @NotNull MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a resource pack: " + file);
+            }
+
+            int indexLength = buffer.getInt(8);
+            long dataStart = (long) HEADER_SIZE + indexLength;
+
+            if (indexLength < 4 || dataStart > buffer.capacity()) {
+                throw new IOException("Damaged resource pack index: " + file);
+            }
+
+            byte[] index = new byte[indexLength];
+            buffer.get(HEADER_SIZE, index);
+
+            @NotNull Map<String, Entry> entries = readIndex(index, dataStart, buffer.capacity());
+            DebugUtil.debug("Opened resource pack with {} entries: {}", entries.size(), file);
+            return new ResourcePack(file, buffer, entries);
+        }
+    }
+
+    /**
+     * Gets the pack of bundled tools, opening it on first use.
+     *
+     * @return The pack, or null if none is available.
+     */
+    public static synchronized @Nullable ResourcePack getDefault() {
+        if (!defaultLoaded) {
+            defaultLoaded = true;
+            defaultPack = loadDefault();
+        }
+        return defaultPack;
+    }
+
+    /**
+     * Looks up a resource in the pack of bundled tools.
+     *
+     * @param resource The path of the resource, such as {@code bin/CPU-Z.7z}.
+     * @return The resource's entry, or null if it isn't in the pack.
+     */
+    public static @Nullable Entry findResource(@NotNull String resource) {
+        if (!resource.startsWith(RESOURCE_PREFIX)) {
+            return null;
+        }
+
+        @NotNull String name = resource.substring(RESOURCE_PREFIX.length());
+        @Nullable ResourcePack pack = getDefault();
+        return pack == null ? getJarIndex().get(name) : pack.getEntry(name);
+    }
+
+    /**
+     * Opens a resource from the pack of bundled tools, or from the classpath if it isn't in the pack.
+     *
+     * @param resource The path of the resource, such as {@code bin/CPU-Z.7z}.
+     * @return The resource's contents, or null if it couldn't be found.
+     */
+    public static @Nullable InputStream openResource(@NotNull String resource) {
+        @Nullable Entry entry = findResource(resource);
+
+        if (entry != null) {
+            @Nullable ResourcePack pack = getDefault();
+            return pack == null ? openFromJar(entry) : pack.openStream(entry);
+        }
+        return RepairKit.class.getClassLoader().getResourceAsStream(resource);
+    }
+
+    /**
+     * Gets an entry in the pack.
+     *
+     * @param name The name of the entry, such as {@code CPU-Z.7z}.
+     * @return The entry, or null if it isn't in the pack.
+     */
+    public @Nullable Entry getEntry(@NotNull String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * Opens an entry's contents, decompressing them if needed.
+     *
+     * @param entry The entry to open.
+     * @return The entry's contents.
+     */
+    public @NotNull InputStream openStream(@NotNull Entry entry) {
+        @NotNull ByteBuffer data = buffer.slice((int) entry.getOffset(), (int) entry.getStoredSize());
+        @NotNull InputStream input = new ByteBufferInputStream(data);
+        return entry.getMethod() == METHOD_DEFLATED ? new InflaterInputStream(input) : input;
+    }
+
+    /**
+     * Finds and opens the pack of bundled tools.
+     *
+     * @return The pack, or null if none is available.
+     */
+    private static @Nullable ResourcePack loadDefault() {
+        // Copies the pack out of the jar, as it can't be mapped from inside it.
+        @NotNull Path copiedPack = FileUtil.dataDirectory.toPath().resolve(PACK_NAME);
+
+        try {
+            if (!copyPackFromJar(copiedPack)) {
+                return null;
+            }
+            return open(copiedPack);
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to open resource pack, streaming bundled tools out of the jar instead: {}", copiedPack, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Gets the index of the pack inside the jar, reading it on first use.
+     *
+     * @return The entries in the jar's pack, by name, or an empty map if the jar has no valid pack.
+     */
+    private static synchronized @NotNull Map<String, Entry> getJarIndex() {
+        if (jarIndex == null) {
+            jarIndex = Map.of();
+
+            try (@Nullable InputStream input = openJarPack()) {
+                if (input != null) {
+                    byte[] header = readHeader(input);
+
+                    if (header.length > HEADER_SIZE) {
+                        jarIndex = readIndex(Arrays.copyOfRange(header, HEADER_SIZE, header.length), header.length, Long.MAX_VALUE);
+                    }
+                }
+            } catch (IOException ex) {
+                DebugUtil.warn("Failed to read the resource pack in the jar", ex);
+            }
+        }
+        return jarIndex;
+    }
+
+    /**
+     * Opens an entry by streaming it out of the pack inside the jar.
+     * Slower than reading the mapped pack, as the pack is read up to the entry's data.
+     *
+     * @param entry The entry to open, from the jar's index.
+     * @return The entry's contents, or null if the jar has no pack.
+     */
+    private static @Nullable InputStream openFromJar(@NotNull Entry entry) {
+        @Nullable InputStream input = openJarPack();
+
+        if (input == null) {
+            return null;
+        }
+
+        try {
+            input.skipNBytes(entry.getOffset());
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to read resource from the jar: {}", entry.getName(), ex);
+
+            try {
+                input.close();
+            } catch (IOException ignored) {
+                // The stream is discarded anyway.
+            }
+            return null;
+        }
+
+        @NotNull InputStream data = new LimitedInputStream(input, entry.getStoredSize());
+        return entry.getMethod() == METHOD_DEFLATED ? new InflaterInputStream(data) : data;
+    }
+
+    /**
+     * Opens the pack inside the jar.
+     *
+     * @return The pack's contents, or null if the jar has no pack.
+     */
+    private static @Nullable InputStream openJarPack() {
+        @Nullable InputStream input = RepairKit.class.getClassLoader().getResourceAsStream(RESOURCE_PREFIX + PACK_NAME);
+        return input == null ? null : new BufferedInputStream(input);
+    }
+
+    /**
+     * Reads a pack's index.
+     *
+     * @param index     The index bytes, following the header.
+     * @param dataStart The position of the entries' data in the pack.
+     * @param packSize  The size of the pack, used to reject entries past its end.
+     * @return The entries in the pack, by name.
+     * @throws IOException If the index is damaged.
+     */
+    private static @NotNull Map<String, Entry> readIndex(byte[] index, long dataStart, long packSize) throws IOException {
+        @NotNull Map<String, Entry> entries = new HashMap<>();
+
+        try (@NotNull DataInputStream input = new DataInputStream(new ByteArrayInputStream(index))) {
+            int count = input.readInt();
+
+            for (int i = 0; i < count; i++) {
+                @NotNull String name = input.readUTF();
+                int method = input.readUnsignedByte();
+                long offset = dataStart + input.readLong();
+                long storedSize = input.readLong();
+                long size = input.readLong();
+                byte[] hash = new byte[32];
+                input.readFully(hash);
+
+                if (offset + storedSize > packSize) {
+                    throw new IOException("Damaged resource pack entry: " + name);
+                }
+
+                entries.put(name, new Entry(name, method, offset, storedSize, size, HexFormat.of().formatHex(hash)));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Copies the pack out of the jar, unless the copy already has the same index.
+     * The index holds every entry's hash, so packs with the same index have the same contents.
+     *
+     * @param target The file to copy the pack to.
+     * @return Whether the copy now matches the jar's pack; false if the jar has no pack or the copy couldn't be replaced.
+     * @throws IOException If the pack couldn't be copied.
+     */
+    private static boolean copyPackFromJar(@NotNull Path target) throws IOException {
+        byte[] jarHeader;
+
+        try (@Nullable InputStream input = RepairKit.class.getClassLoader().getResourceAsStream(RESOURCE_PREFIX + PACK_NAME)) {
+            if (input == null) {
+                DebugUtil.debug("No resource pack found; reading bundled tools from the classpath");
+                return false;
+            }
+
+            jarHeader = readHeader(input);
+        }
+
+        if (hasHeader(target, jarHeader)) {
+            return true;
+        }
+
+        try (@Nullable InputStream input = RepairKit.class.getClassLoader().getResourceAsStream(RESOURCE_PREFIX + PACK_NAME)) {
+            if (input == null) {
+                return false;
+            }
+
+            Files.createDirectories(target.getParent());
+            FileUtil.saveFile(input, target.toString(), true);
+        }
+
+        // Checks the copy was replaced; Windows refuses to replace a pack another instance has mapped.
+        if (!hasHeader(target, jarHeader)) {
+            DebugUtil.info("Failed to replace resource pack, streaming bundled tools out of the jar instead: {}", target);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a pack file exists and has the given header and index.
+     *
+     * @param file   The pack file to check.
+     * @param header The expected header and index bytes.
+     * @return Whether the file has the header.
+     * @throws IOException If the file couldn't be read.
+     */
+    private static boolean hasHeader(@NotNull Path file, byte @NotNull [] header) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+
+        try (@NotNull InputStream input = Files.newInputStream(file)) {
+            return Arrays.equals(header, readHeader(input));
+        }
+    }
+
+    /**
+     * Reads the header and index at the start of a pack.
+     *
+     * @param input The pack's contents.
+     * @return The header and index bytes, or an empty array if the pack is invalid.
+     * @throws IOException If the pack couldn't be read.
+     */
+    private static byte[] readHeader(@NotNull InputStream input) throws IOException {
+        @NotNull DataInputStream dataInput = new DataInputStream(input);
+
+        try {
+            int magic = dataInput.readInt();
+            int version = dataInput.readInt();
+            int indexLength = dataInput.readInt();
+
+            if (magic != MAGIC || version != VERSION || indexLength < 0) {
+                return new byte[0];
+            }
+
+            byte[] header = new byte[HEADER_SIZE + indexLength];
+            ByteBuffer.wrap(header).putInt(magic).putInt(version).putInt(indexLength);
+            dataInput.readFully(header, HEADER_SIZE, indexLength);
+            return header;
+        } catch (EOFException ex) {
+            return new byte[0];
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ResourcePack[" + file + ", " + entries.size() + " entries]";
+    }
+
+    /**
+     * Represents an entry in the pack's index.
+     */
+    @Data
+    public static class Entry {
+
+        private final @NotNull String name;
+        private final int method;
+        private final long offset;
+        private final long storedSize;
+        private final long size;
+        private final @NotNull String sha256;
+    }
+
+    /**
+     * Reads at most a given number of bytes from another stream.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private LimitedInputStream(@NotNull InputStream input, long limit) {
+            super(input);
+            remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int value = super.read();
+
+            if (value != -1) {
+                remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte @NotNull [] bytes, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int count = super.read(bytes, offset, (int) Math.min(length, remaining));
+
+            if (count > 0) {
+                remaining -= count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            long skipped = super.skip(Math.min(count, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+
+    /**
+     * Reads from a byte buffer as an input stream.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final @NotNull ByteBuffer buffer;
+
+        private ByteBufferInputStream(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte @NotNull [] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+    }
+}
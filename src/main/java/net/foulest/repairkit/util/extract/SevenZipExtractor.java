@@ -0,0 +1,248 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.extract;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.DebugUtil;
+import org.apache.commons.compress.archivers.sevenz.SevenZArchiveEntry;
+import org.apache.commons.compress.archivers.sevenz.SevenZFile;
+import org.apache.commons.compress.utils.SeekableInMemoryByteChannel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Utility class for extracting 7z archives in-process.
+ * <p>
+ * Supports the LZMA, LZMA2 and single-stream filter (e.g. BCJ x86) methods.
+ * Archives using other methods, such as BCJ2 or the ARM64 filter, can't be
+ * extracted in-process; callers fall back to 7-Zip for those.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SevenZipExtractor {
+
+    // The size of the buffer used to copy entries
+    private static final int BUFFER_SIZE = 65536;
+
+    /**
+     * Extracts a 7z archive on disk.
+     *
+     * @param archive The archive to extract.
+     * @param target  The folder to extract the archive to.
+     * @return Whether the archive was extracted, or false if it uses an unsupported method.
+     * @throws IOException If the archive contains an unsafe entry or can't be read.
+     */
+    public static boolean extract(@NotNull Path archive, @NotNull Path target) throws IOException {
+        try (@NotNull SeekableByteChannel channel = Files.newByteChannel(archive, StandardOpenOption.READ)) {
+            return extract(channel, archive.getFileName().toString(), target);
+        }
+    }
+
+    /**
+     * Extracts a bundled 7z archive straight from the resource pack or classpath, without saving it to disk first.
+     *
+     * @param resource The path of the archive in the resources.
+     * @param target   The folder to extract the archive to.
+     * @return Whether the archive was extracted, or false if it's missing or uses an unsupported method.
+     * @throws IOException If the archive contains an unsafe entry or can't be read.
+     */
+    public static boolean extractResource(@NotNull String resource, @NotNull Path target) throws IOException {
+        byte[] bytes;
+
+        try (@Nullable InputStream input = ResourcePack.openResource(resource)) {
+            if (input == null) {
+                DebugUtil.debug("Bundled archive not found: {}", resource);
+                return false;
+            }
+
+            // Bundled archives are only a few megabytes, so they're read into memory.
+            bytes = input.readAllBytes();
+        }
+
+        try (@NotNull SeekableByteChannel channel = new SeekableInMemoryByteChannel(bytes)) {
+            return extract(channel, resource, target);
+        }
+    }
+
+    /**
+     * Extracts a 7z archive from a channel.
+     * <p>
+     * Every entry is checked for path traversal before anything is written. Entries
+     * are decoded in archive order, as entries in a solid block can't be decoded
+     * independently of the entries before them. If the extraction fails, the files
+     * and folders it created are deleted again.
+     *
+     * @param channel     The channel to read the archive from.
+     * @param archiveName The name of the archive, for logging.
+     * @param target      The folder to extract the archive to.
+     * @return Whether the archive was extracted, or false if it uses an unsupported method.
+     * @throws IOException If the archive contains an unsafe entry, is damaged, or can't be read or written.
+     */
+    public static boolean extract(@NotNull SeekableByteChannel channel, @NotNull String archiveName,
+                                  @NotNull Path target) throws IOException {
+        long startTime = System.currentTimeMillis();
+        @NotNull Path targetPath = target.toAbsolutePath().normalize();
+
+        try (@NotNull SevenZFile sevenZFile = SevenZFile.builder().setSeekableByteChannel(channel).get()) {
+            // Check for path traversal vulnerabilities
+            for (@NotNull SevenZArchiveEntry entry : sevenZFile.getEntries()) {
+                resolveEntry(targetPath, entry.getName());
+            }
+
+            // The files and folders created so far, deleted again if the extraction fails
+            @NotNull Deque<Path> created = new ArrayDeque<>();
+            boolean completed = false;
+            int fileCount = 0;
+            long byteCount = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            try {
+                @Nullable SevenZArchiveEntry entry;
+
+                while ((entry = sevenZFile.getNextEntry()) != null) {
+                    @NotNull Path newPath = resolveEntry(targetPath, entry.getName());
+
+                    if (entry.isDirectory()) {
+                        createDirectories(newPath, created);
+                        continue;
+                    }
+
+                    createDirectories(newPath.getParent(), created);
+
+                    if (!Files.exists(newPath)) {
+                        created.push(newPath);
+                    }
+
+                    try (@NotNull OutputStream output = Files.newOutputStream(newPath)) {
+                        int read;
+
+                        while ((read = sevenZFile.read(buffer)) != -1) {
+                            output.write(buffer, 0, read);
+                            byteCount += read;
+                        }
+                    }
+
+                    if (entry.getHasLastModifiedDate()) {
+                        Files.setLastModifiedTime(newPath, FileTime.from(entry.getLastModifiedTime().toInstant()));
+                    }
+                    fileCount++;
+                }
+
+                completed = true;
+            } catch (IOException ex) {
+                if (!isUnsupportedMethod(ex)) {
+                    throw ex;
+                }
+
+                DebugUtil.debug("Can't extract {} in-process: {}", archiveName, ex.getMessage());
+                return false;
+            } finally {
+                if (!completed) {
+                    deleteCreated(created);
+                }
+            }
+
+            int extractedFiles = fileCount;
+            long extractedBytes = byteCount;
+            DebugUtil.debug(() -> "Extracted " + extractedFiles + " files (" + extractedBytes + " bytes) from "
+                    + archiveName + " to " + targetPath + " in " + (System.currentTimeMillis() - startTime) + " ms");
+            return true;
+        }
+    }
+
+    /**
+     * Checks if an exception was thrown because the archive uses a compression method
+     * that can't be decoded in-process. Commons Compress throws plain {@link IOException}s
+     * for these, so they're told apart by their messages.
+     *
+     * @param ex The exception.
+     * @return Whether the exception is for an unsupported compression method.
+     */
+    private static boolean isUnsupportedMethod(@NotNull IOException ex) {
+        @Nullable String message = ex.getMessage();
+        return message != null && (message.startsWith("Unsupported compression method")
+                || message.startsWith("Multi input/output stream coders are not yet supported"));
+    }
+
+    /**
+     * Creates a folder and its missing parents, remembering the ones that were created.
+     *
+     * @param folder  The folder to create.
+     * @param created The files and folders created so far.
+     * @throws IOException If a folder couldn't be created.
+     */
+    private static void createDirectories(@NotNull Path folder, @NotNull Deque<Path> created) throws IOException {
+        @NotNull Deque<Path> missing = new ArrayDeque<>();
+
+        for (@Nullable Path path = folder; path != null && !Files.exists(path); path = path.getParent()) {
+            missing.push(path);
+        }
+
+        for (@NotNull Path path : missing) {
+            Files.createDirectory(path);
+            created.push(path);
+        }
+    }
+
+    /**
+     * Deletes the files and folders a failed extraction created, newest first.
+     *
+     * @param created The files and folders created by the extraction.
+     */
+    private static void deleteCreated(@NotNull Deque<Path> created) {
+        for (@NotNull Path path : created) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ex) {
+                DebugUtil.debug("Failed to delete partly extracted file: {}", path);
+            }
+        }
+    }
+
+    /**
+     * Resolves an entry's path in the target folder.
+     *
+     * @param targetPath The folder the archive is extracted to.
+     * @param entryName  The name of the entry.
+     * @return The path to extract the entry to.
+     * @throws IOException If the entry would be extracted outside the target folder.
+     */
+    private static @NotNull Path resolveEntry(@NotNull Path targetPath, @NotNull String entryName) throws IOException {
+        @NotNull Path newPath = targetPath.resolve(entryName).normalize();
+
+        if (!newPath.startsWith(targetPath) || newPath.equals(targetPath)) {
+            throw new IOException("Bad 7z entry (potential path traversal): " + entryName);
+        }
+        return newPath;
+    }
+}
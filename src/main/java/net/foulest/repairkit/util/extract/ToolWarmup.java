@@ -0,0 +1,120 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.extract;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.DebugUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utility class for extracting the most launched tools ahead of time.
+ * <p>
+ * Once the window is shown, a low-priority background thread waits for the
+ * machine to be idle and then extracts the most launched tools into the
+ * {@link ExtractionCache}, so clicking their launch buttons starts them
+ * straight away.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ToolWarmup {
+
+    // The number of most launched tools to extract ahead of time
+    private static final int TOOL_COUNT = 5;
+
+    // The delay before the warm-up starts, leaving startup work to finish first
+    private static final long START_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    // The interval between idle checks
+    private static final long IDLE_CHECK_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    // The system CPU load below which the machine is considered idle
+    private static final double IDLE_CPU_LOAD = 0.25;
+
+    /**
+     * Starts extracting the most launched tools in the background.
+     */
+    public static void start() {
+        @NotNull Thread thread = new Thread(ToolWarmup::run, "RepairKit-ToolWarmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Extracts each of the most launched tools once the machine is idle.
+     */
+    private static void run() {
+        @NotNull List<String> tools = LaunchStats.getMostLaunched(TOOL_COUNT);
+
+        if (tools.isEmpty()) {
+            return;
+        }
+
+        try {
+            Thread.sleep(START_DELAY_MILLIS);
+
+            for (@NotNull String tool : tools) {
+                waitForIdle();
+
+                long startTime = System.currentTimeMillis();
+
+                if (ExtractionCache.getDefault().getOrExtract(tool) != null) {
+                    DebugUtil.debug("Warmed up {} in {} ms", tool, System.currentTimeMillis() - startTime);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until the system CPU load drops below the idle threshold.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    private static void waitForIdle() throws InterruptedException {
+        OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+
+        // The system-wide CPU load is only available on HotSpot-based JVMs.
+        if (!(osBean instanceof com.sun.management.OperatingSystemMXBean)) {
+            return;
+        }
+
+        @NotNull com.sun.management.OperatingSystemMXBean sunOsBean = (com.sun.management.OperatingSystemMXBean) osBean;
+
+        while (true) {
+            double cpuLoad = sunOsBean.getCpuLoad();
+
+            // A negative load means it isn't known yet, which isn't treated as busy.
+            if (cpuLoad < IDLE_CPU_LOAD) {
+                return;
+            }
+
+            Thread.sleep(IDLE_CHECK_MILLIS);
+        }
+    }
+}
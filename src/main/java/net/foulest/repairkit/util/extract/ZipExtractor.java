@@ -0,0 +1,278 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.extract;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.log.LogLevel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Utility class for extracting zip archives in parallel.
+ * <p>
+ * Opens the archive for random access, creates every folder in one pass, then
+ * extracts entries across a pool of threads, each reusing its own direct buffer.
+ * Large entries are extracted on their own while small entries are grouped into
+ * batches, and extracted files are logged once per batch.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ZipExtractor {
+
+    // The size of each thread's copy buffer
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    // Entries at least this large (compressed) are extracted as their own task
+    private static final long LARGE_ENTRY_SIZE = 1024 * 1024;
+
+    // The number of small entries extracted per task
+    private static final int BATCH_SIZE = 64;
+
+    private static final ThreadLocal<ByteBuffer> BUFFERS = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    /**
+     * Extracts a zip archive using a thread per available processor, up to eight.
+     *
+     * @param archive The archive to extract.
+     * @param target  The folder to extract the archive to.
+     * @throws IOException If the archive contains an unsafe entry or couldn't be extracted.
+     */
+    public static void extract(@NotNull Path archive, @NotNull Path target) throws IOException {
+        extract(archive, target, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Extracts a zip archive.
+     *
+     * @param archive The archive to extract.
+     * @param target  The folder to extract the archive to.
+     * @param threads The number of threads to extract entries with.
+     * @throws IOException If the archive contains an unsafe entry or couldn't be extracted.
+     */
+    public static void extract(@NotNull Path archive, @NotNull Path target, int threads) throws IOException {
+        long startTime = System.currentTimeMillis();
+        @NotNull Path targetPath = target.toAbsolutePath().normalize();
+
+        try (@NotNull ZipFile zipFile = new ZipFile(archive.toFile())) {
+            @NotNull List<ZipEntry> files = new ArrayList<>();
+            @NotNull SortedSet<Path> directories = new TreeSet<>();
+            directories.add(targetPath);
+
+            // Checks every entry and collects the folders to create before extracting anything.
+            for (@NotNull ZipEntry entry : Collections.list(zipFile.entries())) {
+                @NotNull Path newPath = resolveEntry(targetPath, entry.getName());
+
+                if (entry.isDirectory()) {
+                    directories.add(newPath);
+                } else {
+                    directories.add(newPath.getParent());
+                    files.add(entry);
+                }
+            }
+
+            // Creates the folders in sorted order, so parents are created before their children.
+            for (@NotNull Path directory : directories) {
+                Files.createDirectories(directory);
+            }
+
+            @NotNull List<List<ZipEntry>> batches = createBatches(files);
+            long byteCount = extractBatches(zipFile, targetPath, batches, Math.max(1, threads));
+
+            long elapsedMillis = System.currentTimeMillis() - startTime;
+            DebugUtil.debug(() -> "Extracted " + files.size() + " files (" + byteCount + " bytes, "
+                    + (directories.size() - 1) + " folders) from " + archive + " to " + targetPath
+                    + " in " + elapsedMillis + " ms");
+        }
+    }
+
+    /**
+     * Groups entries into extraction tasks, largest first so the pool stays busy until the end.
+     *
+     * @param files The file entries to extract.
+     * @return The batches of entries.
+     */
+    private static @NotNull List<List<ZipEntry>> createBatches(@NotNull List<ZipEntry> files) {
+        @NotNull List<ZipEntry> sorted = new ArrayList<>(files);
+        sorted.sort(Comparator.comparingLong(ZipExtractor::getCompressedSize).reversed());
+
+        @NotNull List<List<ZipEntry>> batches = new ArrayList<>();
+        @NotNull List<ZipEntry> batch = new ArrayList<>(BATCH_SIZE);
+
+        for (@NotNull ZipEntry entry : sorted) {
+            if (getCompressedSize(entry) >= LARGE_ENTRY_SIZE) {
+                batches.add(List.of(entry));
+                continue;
+            }
+
+            batch.add(entry);
+
+            if (batch.size() >= BATCH_SIZE) {
+                batches.add(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Extracts batches of entries across a pool of threads.
+     *
+     * @param zipFile    The archive to extract from.
+     * @param targetPath The folder to extract the archive to.
+     * @param batches    The batches of entries to extract.
+     * @param threads    The number of threads to extract entries with.
+     * @return The number of bytes extracted.
+     * @throws IOException If an entry couldn't be extracted.
+     */
+    private static long extractBatches(@NotNull ZipFile zipFile, @NotNull Path targetPath,
+                                       @NotNull List<List<ZipEntry>> batches, int threads) throws IOException {
+        // Small archives aren't worth starting a pool for.
+        if (threads == 1 || batches.size() <= 1) {
+            long byteCount = 0;
+
+            for (@NotNull List<ZipEntry> batch : batches) {
+                byteCount += extractBatch(zipFile, targetPath, batch);
+            }
+            return byteCount;
+        }
+
+        @NotNull ExecutorService executor = Executors.newWorkStealingPool(threads);
+
+        try {
+            @NotNull List<Future<Long>> futures = new ArrayList<>(batches.size());
+
+            for (@NotNull List<ZipEntry> batch : batches) {
+                futures.add(executor.submit(() -> extractBatch(zipFile, targetPath, batch)));
+            }
+
+            long byteCount = 0;
+
+            for (@NotNull Future<Long> future : futures) {
+                byteCount += future.get();
+            }
+            return byteCount;
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while extracting zip entries", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Extracts a batch of entries on the current thread.
+     *
+     * @param zipFile    The archive to extract from.
+     * @param targetPath The folder to extract the archive to.
+     * @param batch      The entries to extract.
+     * @return The number of bytes extracted.
+     * @throws IOException If an entry couldn't be extracted.
+     */
+    private static long extractBatch(@NotNull ZipFile zipFile, @NotNull Path targetPath,
+                                     @NotNull List<ZipEntry> batch) throws IOException {
+        @NotNull ByteBuffer buffer = BUFFERS.get();
+        // Only lists the extracted entries when debug messages are printed.
+        @Nullable StringBuilder logBatch = DebugUtil.isEnabled(LogLevel.DEBUG) ? new StringBuilder() : null;
+        long byteCount = 0;
+
+        for (@NotNull ZipEntry entry : batch) {
+            @NotNull Path newPath = resolveEntry(targetPath, entry.getName());
+
+            try (@NotNull InputStream input = zipFile.getInputStream(entry);
+                 @NotNull ReadableByteChannel source = Channels.newChannel(input);
+                 @NotNull FileChannel output = FileChannel.open(newPath, StandardOpenOption.CREATE,
+                         StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                buffer.clear();
+
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+
+                    while (buffer.hasRemaining()) {
+                        byteCount += output.write(buffer);
+                    }
+
+                    buffer.clear();
+                }
+            }
+
+            if (logBatch != null) {
+                logBatch.append("\n  ").append(newPath);
+            }
+        }
+
+        if (logBatch != null) {
+            DebugUtil.debug("Extracted zip entries:{}", logBatch);
+        }
+        return byteCount;
+    }
+
+    /**
+     * Resolves an entry's path in the target folder.
+     *
+     * @param targetPath The folder the archive is extracted to.
+     * @param entryName  The name of the entry.
+     * @return The path to extract the entry to.
+     * @throws IOException If the entry would be extracted outside the target folder.
+     */
+    private static @NotNull Path resolveEntry(@NotNull Path targetPath, @NotNull String entryName) throws IOException {
+        @NotNull Path newPath = targetPath.resolve(entryName).normalize();
+
+        // Check for path traversal vulnerabilities
+        if (!newPath.startsWith(targetPath)) {
+            throw new IOException("Bad zip entry (potential path traversal): " + entryName);
+        }
+        return newPath;
+    }
+
+    /**
+     * Gets the compressed size of an entry, falling back to its size if unknown.
+     *
+     * @param entry The entry.
+     * @return The compressed size, in bytes.
+     */
+    private static long getCompressedSize(@NotNull ZipEntry entry) {
+        long size = entry.getCompressedSize();
+        return size >= 0 ? size : Math.max(0, entry.getSize());
+    }
+}
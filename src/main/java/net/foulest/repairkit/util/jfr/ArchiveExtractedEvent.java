@@ -0,0 +1,52 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+/**
+ * A Flight Recorder event for an archive extracted by {@link net.foulest.repairkit.util.FileUtil#unzipFile}.
+ *
+ * @author Foulest
+ */
+@Setter
+@Name("net.foulest.repairkit.ArchiveExtracted")
+@Label("Archive Extracted")
+@Category({"RepairKit", "Files"})
+@Description("An archive extracted to a folder")
+@StackTrace(false)
+public class ArchiveExtractedEvent extends Event {
+
+    @Label("Archive")
+    private String archive;
+
+    @Label("Destination")
+    private String destination;
+
+    @Label("Archive Size")
+    @DataAmount
+    private long archiveSize;
+
+    @Label("Method")
+    @Description("How the archive was extracted: zip, 7z (in-process) or 7zr (7-Zip)")
+    private String method;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+}
@@ -0,0 +1,51 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+/**
+ * A Flight Recorder event for a command run by {@link net.foulest.repairkit.util.CommandUtil}.
+ * The event's duration covers the command from starting its process until it exits.
+ *
+ * @author Foulest
+ */
+@Setter
+@Name("net.foulest.repairkit.CommandExecuted")
+@Label("Command Executed")
+@Category({"RepairKit", "Commands"})
+@Description("A command run in a new process")
+@StackTrace(false)
+public class CommandExecutedEvent extends Event {
+
+    @Label("Command")
+    private String command;
+
+    @Label("Asynchronous")
+    @Description("Whether the caller continued without waiting for the command")
+    private boolean async;
+
+    @Label("Exit Code")
+    @Description("The exit code of the process, or -1 if it couldn't be started")
+    private int exitCode = -1;
+
+    @Label("Output Lines")
+    @Description("The number of lines of output read from the process")
+    private long outputLines;
+}
@@ -0,0 +1,113 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.FileUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Utility class for recording a run with Java Flight Recorder.
+ * <p>
+ * Started with the {@code --record} or {@code --record=<file>} launch flag.
+ * The recording uses the JDK's {@code profile} settings plus RepairKit's own
+ * events, and is written to disk when RepairKit exits, ready to be opened in
+ * JDK Mission Control.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FlightRecording {
+
+    /**
+     * The launch flag that starts a recording.
+     */
+    public static final String RECORD_FLAG = "--record";
+
+    // RepairKit's events, which are enabled with their durations and no threshold
+    private static final List<Class<? extends Event>> EVENTS = List.of(
+            CommandExecutedEvent.class,
+            TaskCompletedEvent.class,
+            ArchiveExtractedEvent.class,
+            RegistryBatchAppliedEvent.class,
+            JunkScanProgressEvent.class
+    );
+
+    /**
+     * Starts a recording if the launch flags ask for one.
+     *
+     * @param args The command line arguments.
+     */
+    public static void startIfRequested(String @NotNull [] args) {
+        for (@NotNull String arg : args) {
+            if (arg.equals(RECORD_FLAG)) {
+                start(null);
+                return;
+            } else if (arg.startsWith(RECORD_FLAG + "=")) {
+                start(arg.substring(RECORD_FLAG.length() + 1));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Starts a recording that's written to a file when RepairKit exits.
+     *
+     * @param destination The file to write the recording to, or null for a timestamped file in the temp directory.
+     */
+    public static void start(@Nullable String destination) {
+        @NotNull Path file = destination == null || destination.isBlank()
+                ? Paths.get(FileUtil.getTempPath(), "RepairKit-" + LocalDateTime.now().format(
+                DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss", Locale.ROOT)) + ".jfr")
+                : Paths.get(destination);
+
+        try {
+            @NotNull Recording recording = new Recording(Configuration.getConfiguration("profile"));
+            recording.setName("RepairKit");
+
+            for (@NotNull Class<? extends Event> event : EVENTS) {
+                recording.enable(event).withoutThreshold();
+            }
+
+            recording.setToDisk(true);
+            recording.setDumpOnExit(true);
+            recording.setDestination(file);
+            recording.start();
+            DebugUtil.debug("Started flight recording; it will be written to {} on exit", file);
+        } catch (IOException | ParseException | IllegalStateException | SecurityException ex) {
+            DebugUtil.warn("Failed to start flight recording: {}", file, ex);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+/**
+ * A Flight Recorder event for the progress of a temp folder cleanup.
+ * Emitted periodically during each cleanup and once when it finishes.
+ *
+ * @author Foulest
+ */
+@Setter
+@Name("net.foulest.repairkit.JunkScanProgress")
+@Label("Junk Scan Progress")
+@Category({"RepairKit", "Junk Files"})
+@Description("The progress of a temp folder cleanup")
+@StackTrace(false)
+public class JunkScanProgressEvent extends Event {
+
+    @Label("Root")
+    @Description("The folder being cleaned")
+    private String root;
+
+    @Label("Files Scanned")
+    private long filesScanned;
+
+    @Label("Files Deleted")
+    private long filesDeleted;
+
+    @Label("Bytes Deleted")
+    @DataAmount
+    private long bytesDeleted;
+
+    @Label("Directories Skipped")
+    @Description("Folders skipped for being unchanged since the previous cleanup")
+    private long directoriesSkipped;
+}
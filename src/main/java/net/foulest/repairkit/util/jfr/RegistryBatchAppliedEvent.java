@@ -0,0 +1,47 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+/**
+ * A Flight Recorder event for a batch of registry changes applied from a config file.
+ *
+ * @author Foulest
+ */
+@Setter
+@Name("net.foulest.repairkit.RegistryBatchApplied")
+@Label("Registry Batch Applied")
+@Category({"RepairKit", "Registry"})
+@Description("A batch of registry values set or deleted")
+@StackTrace(false)
+public class RegistryBatchAppliedEvent extends Event {
+
+    @Label("Values")
+    @Description("The number of values in the batch")
+    private int values;
+
+    @Label("Applied")
+    @Description("The number of values set or deleted")
+    private int applied;
+
+    @Label("Invalid")
+    @Description("The number of values skipped for having an invalid key or value")
+    private int invalid;
+}
@@ -0,0 +1,52 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+/**
+ * A Flight Recorder event for a task run by {@link net.foulest.repairkit.util.TaskUtil}.
+ * The event's duration covers running the task, not the time it waited in the queue.
+ *
+ * @author Foulest
+ */
+@Setter
+@Name("net.foulest.repairkit.TaskCompleted")
+@Label("Task Completed")
+@Category({"RepairKit", "Tasks"})
+@Description("A task run concurrently with others in the same batch")
+public class TaskCompletedEvent extends Event {
+
+    @Label("Task Index")
+    @Description("The position of the task in its batch")
+    private int taskIndex;
+
+    @Label("Batch Size")
+    @Description("The number of tasks in the batch")
+    private int batchSize;
+
+    @Label("Queue Wait")
+    @Description("The time between submitting the task and it starting to run")
+    @Timespan(Timespan.NANOSECONDS)
+    private long queueWait;
+
+    @Label("Failed")
+    @Description("Whether the task threw an exception")
+    private boolean failed;
+}
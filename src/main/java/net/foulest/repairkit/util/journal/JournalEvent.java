@@ -0,0 +1,131 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.journal;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.annotations.SerializedName;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An event in the run journal, written as a single line of JSON.
+ * <p>
+ * Each event describes a step of a run, or a task within a step, for example:
+ * <pre>{@code
+ * {"v":1,"run":"3f9c2a1b","ts":1760860800000,"step":"junkFiles","task":"userTemp","ms":5120,"outcome":"ok","bytes":73400320,"cmds":0,"failures":0}
+ * }</pre>
+ * The {@code task} field is left out for events describing a whole step.
+ * {@code failures} counts the tasks that failed without failing the step
+ * or task itself, e.g. ones caught by {@code TaskUtil}.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor
+public class JournalEvent {
+
+    /**
+     * The version of the event schema.
+     */
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final Gson GSON = new Gson();
+
+    @SerializedName("v")
+    private int version = SCHEMA_VERSION;
+
+    @SerializedName("run")
+    private String runId;
+
+    @SerializedName("ts")
+    private long timestamp;
+
+    @SerializedName("step")
+    private String step;
+
+    @SerializedName("task")
+    private @Nullable String task;
+
+    @SerializedName("ms")
+    private long durationMillis;
+
+    @SerializedName("outcome")
+    private Outcome outcome;
+
+    @SerializedName("bytes")
+    private long bytesFreed;
+
+    @SerializedName("cmds")
+    private long commandsSpawned;
+
+    @SerializedName("failures")
+    private long failedTasks;
+
+    /**
+     * Checks whether the event describes a whole step rather than a task within one.
+     *
+     * @return Whether the event describes a step.
+     */
+    public boolean isStepEvent() {
+        return task == null;
+    }
+
+    /**
+     * Parses an event from a line of JSON.
+     *
+     * @param line The line to parse.
+     * @return The parsed event.
+     * @throws JsonParseException If the line isn't a valid event.
+     */
+    public static @NotNull JournalEvent fromJson(@NotNull String line) {
+        @Nullable JournalEvent event = GSON.fromJson(line, JournalEvent.class);
+
+        if (event == null || event.getStep() == null) {
+            throw new JsonParseException("Not a journal event: " + line);
+        }
+        return event;
+    }
+
+    /**
+     * Formats the event as a line of JSON.
+     * Called on the log writer thread, so events are serialized off the calling thread.
+     *
+     * @return The event as JSON.
+     */
+    @Override
+    public @NotNull String toString() {
+        return GSON.toJson(this);
+    }
+
+    /**
+     * The outcome of a step or task.
+     */
+    public enum Outcome {
+        @SerializedName("ok")
+        OK,
+
+        @SerializedName("failed")
+        FAILED,
+
+        @SerializedName("skipped")
+        SKIPPED
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.journal;
+
+import com.google.gson.JsonParseException;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Utility class for reading run journals and summarizing step latencies.
+ * <p>
+ * Journals from many machines can be read together; lines that aren't valid
+ * events, such as a line cut short by a crash, are skipped.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JournalReader {
+
+    /**
+     * Reads the events in a journal file.
+     *
+     * @param journal The journal file to read.
+     * @return The events, in the order they were written.
+     * @throws IOException If the journal couldn't be read.
+     */
+    public static @NotNull List<JournalEvent> read(@NotNull Path journal) throws IOException {
+        @NotNull List<JournalEvent> events = new ArrayList<>();
+
+        try (@NotNull BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    events.add(JournalEvent.fromJson(line));
+                } catch (JsonParseException ignored) {
+                    // Skips lines that aren't valid events.
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Reads the events in several journal files, e.g. collected from different machines.
+     *
+     * @param journals The journal files to read.
+     * @return The events from every journal.
+     * @throws IOException If a journal couldn't be read.
+     */
+    public static @NotNull List<JournalEvent> readAll(@NotNull Collection<Path> journals) throws IOException {
+        @NotNull List<JournalEvent> events = new ArrayList<>();
+
+        for (@NotNull Path journal : journals) {
+            events.addAll(read(journal));
+        }
+        return events;
+    }
+
+    /**
+     * Summarizes the duration of each step across runs.
+     * Only events describing whole steps are counted, not the tasks within them.
+     *
+     * @param events The events to summarize.
+     * @return The latency summary of each step, by step name in alphabetical order.
+     */
+    public static @NotNull Map<String, LatencySummary> summarizeSteps(@NotNull Collection<JournalEvent> events) {
+        @NotNull Map<String, List<Long>> durations = new TreeMap<>();
+
+        for (@NotNull JournalEvent event : events) {
+            if (event.isStepEvent()) {
+                durations.computeIfAbsent(event.getStep(), key -> new ArrayList<>()).add(event.getDurationMillis());
+            }
+        }
+
+        @NotNull Map<String, LatencySummary> summaries = new LinkedHashMap<>();
+        durations.forEach((step, stepDurations) -> summaries.put(step, LatencySummary.of(stepDurations)));
+        return summaries;
+    }
+
+    /**
+     * A summary of the distribution of durations, in milliseconds.
+     */
+    @Data
+    public static class LatencySummary {
+
+        private final int count;
+        private final long min;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long max;
+
+        /**
+         * Summarizes a list of durations.
+         *
+         * @param durations The durations to summarize; must not be empty.
+         * @return The summary.
+         */
+        public static @NotNull LatencySummary of(@NotNull List<Long> durations) {
+            long @NotNull [] sorted = durations.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new LatencySummary(sorted.length, sorted[0], percentile(sorted, 50),
+                    percentile(sorted, 90), percentile(sorted, 99), sorted[sorted.length - 1]);
+        }
+
+        /**
+         * Gets a percentile of sorted durations, using the nearest-rank method.
+         *
+         * @param sorted     The durations, in ascending order.
+         * @param percentile The percentile to get, from 0 to 100.
+         * @return The duration at the percentile.
+         */
+        public static long percentile(long @NotNull [] sorted, double percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+        }
+    }
+}
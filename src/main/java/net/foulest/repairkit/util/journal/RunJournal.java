@@ -0,0 +1,259 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.journal;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.FileUtil;
+import net.foulest.repairkit.util.log.AsyncLogAppender;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Utility class for recording a structured journal of each run.
+ * <p>
+ * Each step of a run, and each task within a step, is appended to
+ * {@code journal.jsonl} in the data directory as a line of JSON (see
+ * {@link JournalEvent}), through the same asynchronous writer as the log
+ * file. Events from every run on the machine are kept in the same file, so
+ * journals collected from many machines can be read with {@link JournalReader}.
+ * <p>
+ * Commands spawned, bytes freed and failed tasks are attributed to the step or
+ * task running on the current thread, including threads it starts to run
+ * sub-tasks, and count towards every step or task it's nested in. A step or
+ * task with failed tasks is recorded as failed.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RunJournal {
+
+    /**
+     * The journal file in the data directory.
+     */
+    public static final Path JOURNAL_FILE = FileUtil.dataDirectory.toPath().resolve("journal.jsonl");
+
+    // Past this size, the oldest half of the journal is dropped at startup
+    private static final long MAX_JOURNAL_BYTES = 8L * 1024 * 1024;
+
+    // The ID of this run, shared by all of its events
+    private static final String RUN_ID = UUID.randomUUID().toString().substring(0, 8);
+
+    // The step or task running on the current thread, inherited by threads it starts
+    private static final InheritableThreadLocal<Scope> CURRENT_SCOPE = new InheritableThreadLocal<>();
+
+    // The journal writer, created on first use
+    private static @Nullable AsyncLogAppender appender;
+
+    /**
+     * Gets the ID of this run.
+     *
+     * @return The run ID.
+     */
+    public static @NotNull String getRunId() {
+        return RUN_ID;
+    }
+
+    /**
+     * Runs a step and records it in the journal.
+     *
+     * @param step The name of the step, such as {@code registryTweaks}.
+     * @param body The step to run.
+     * @return The recorded event; a step that throws is recorded as failed and rethrows instead.
+     */
+    public static @NotNull JournalEvent step(@NotNull String step, @NotNull Runnable body) {
+        return run(step, null, body);
+    }
+
+    /**
+     * Runs a task within the current step and records it in the journal.
+     *
+     * @param task The name of the task, such as {@code userTemp}.
+     * @param body The task to run.
+     */
+    public static void task(@NotNull String task, @NotNull Runnable body) {
+        @Nullable Scope parent = CURRENT_SCOPE.get();
+        run(parent == null ? "none" : parent.step, task, body);
+    }
+
+    /**
+     * Records that the current step or task spawned a command.
+     */
+    public static void recordCommand() {
+        for (@Nullable Scope scope = CURRENT_SCOPE.get(); scope != null; scope = scope.parent) {
+            scope.commands.increment();
+        }
+    }
+
+    /**
+     * Records bytes freed by the current step or task.
+     *
+     * @param bytes The number of bytes freed.
+     */
+    public static void recordBytesFreed(long bytes) {
+        for (@Nullable Scope scope = CURRENT_SCOPE.get(); scope != null; scope = scope.parent) {
+            scope.bytesFreed.add(bytes);
+        }
+    }
+
+    /**
+     * Records tasks of the current step or task that failed without throwing,
+     * e.g. tasks whose exceptions were caught and logged.
+     *
+     * @param count The number of failed tasks.
+     */
+    public static void recordFailures(long count) {
+        for (@Nullable Scope scope = CURRENT_SCOPE.get(); scope != null; scope = scope.parent) {
+            scope.failures.add(count);
+        }
+    }
+
+    /**
+     * Marks the current step or task as skipped, e.g. when it doesn't apply to this system.
+     */
+    public static void markSkipped() {
+        @Nullable Scope scope = CURRENT_SCOPE.get();
+
+        if (scope != null) {
+            scope.skipped = true;
+        }
+    }
+
+    /**
+     * Waits until every event recorded so far has been written to the journal.
+     */
+    public static void flush() {
+        @Nullable AsyncLogAppender journalAppender;
+
+        synchronized (RunJournal.class) {
+            journalAppender = appender;
+        }
+
+        if (journalAppender != null) {
+            journalAppender.flush();
+        }
+    }
+
+    /**
+     * Runs a step or task in a new scope and records its event.
+     *
+     * @param step The name of the step.
+     * @param task The name of the task, or null for the step itself.
+     * @param body The step or task to run.
+     * @return The recorded event.
+     */
+    private static @NotNull JournalEvent run(@NotNull String step, @Nullable String task, @NotNull Runnable body) {
+        @Nullable Scope parent = CURRENT_SCOPE.get();
+        @NotNull Scope scope = new Scope(step, parent);
+        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        JournalEvent.Outcome outcome = JournalEvent.Outcome.FAILED;
+        @NotNull JournalEvent event = new JournalEvent();
+
+        CURRENT_SCOPE.set(scope);
+
+        try {
+            body.run();
+
+            if (scope.failures.sum() == 0) {
+                outcome = scope.skipped ? JournalEvent.Outcome.SKIPPED : JournalEvent.Outcome.OK;
+            }
+        } finally {
+            CURRENT_SCOPE.set(parent);
+
+            event.setRunId(RUN_ID);
+            event.setTimestamp(startTime);
+            event.setStep(step);
+            event.setTask(task);
+            event.setDurationMillis((System.nanoTime() - startNanos) / 1_000_000);
+            event.setOutcome(outcome);
+            event.setBytesFreed(scope.bytesFreed.sum());
+            event.setCommandsSpawned(scope.commands.sum());
+            event.setFailedTasks(scope.failures.sum());
+            getAppender().append(event);
+        }
+        return event;
+    }
+
+    /**
+     * Gets the journal writer, trimming the journal and starting the writer on first use.
+     *
+     * @return The journal writer.
+     */
+    private static synchronized @NotNull AsyncLogAppender getAppender() {
+        if (appender == null) {
+            try {
+                Files.createDirectories(JOURNAL_FILE.getParent());
+                trimJournal();
+            } catch (IOException ex) {
+                DebugUtil.warn("Failed to prepare run journal: {}", JOURNAL_FILE, ex);
+            }
+
+            appender = new AsyncLogAppender(JOURNAL_FILE, null, 1024, null, false);
+            appender.start();
+        }
+        return appender;
+    }
+
+    /**
+     * Drops the oldest half of the journal once it grows past the size limit.
+     *
+     * @throws IOException If the journal couldn't be rewritten.
+     */
+    private static void trimJournal() throws IOException {
+        if (!Files.isRegularFile(JOURNAL_FILE) || Files.size(JOURNAL_FILE) <= MAX_JOURNAL_BYTES) {
+            return;
+        }
+
+        @NotNull List<String> lines = Files.readAllLines(JOURNAL_FILE, StandardCharsets.UTF_8);
+        @NotNull Path tempFile = JOURNAL_FILE.resolveSibling(JOURNAL_FILE.getFileName() + ".tmp");
+        Files.write(tempFile, lines.subList(lines.size() / 2, lines.size()), StandardCharsets.UTF_8);
+        Files.move(tempFile, JOURNAL_FILE, StandardCopyOption.REPLACE_EXISTING);
+        DebugUtil.debug("Trimmed run journal to {} events", lines.size() - lines.size() / 2);
+    }
+
+    /**
+     * The step or task running on a thread, counting the commands it spawns, bytes it frees and tasks that failed.
+     */
+    private static final class Scope {
+
+        private final @NotNull String step;
+        private final @Nullable Scope parent;
+        private final @NotNull LongAdder commands = new LongAdder();
+        private final @NotNull LongAdder bytesFreed = new LongAdder();
+        private final @NotNull LongAdder failures = new LongAdder();
+        private volatile boolean skipped;
+
+        private Scope(@NotNull String step, @Nullable Scope parent) {
+            this.step = step;
+            this.parent = parent;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.junk;
+
+import lombok.Data;
+import net.foulest.repairkit.util.DebugUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A compact, persisted index of the folders seen by the last cleanup.
+ * <p>
+ * Each folder is stored by a hash of its path along with its last modified time,
+ * its child counts and the oldest file left behind in it. A folder's last modified
+ * time only changes when its direct children change, so a folder with no
+ * subfolders whose time hasn't changed still holds exactly the files it did last
+ * time, and can be skipped until one of those files becomes old enough to clean.
+ *
+ * @author Foulest
+ */
+public class DirectoryIndex {
+
+    private static final int MAGIC = 0x524B4449; // "RKDI"
+    private static final int VERSION = 1;
+
+    // The entries loaded from the previous cleanup
+    private final @NotNull Map<Long, Entry> previous;
+
+    // The entries recorded by the current cleanup
+    private final @NotNull Map<Long, Entry> current = new HashMap<>();
+
+    /**
+     * Creates a new directory index.
+     *
+     * @param previous The entries loaded from the previous cleanup.
+     */
+    private DirectoryIndex(@NotNull Map<Long, Entry> previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Creates an empty directory index.
+     *
+     * @return The empty index.
+     */
+    public static @NotNull DirectoryIndex empty() {
+        return new DirectoryIndex(new HashMap<>());
+    }
+
+    /**
+     * Loads a directory index from a file.
+     * A missing or unreadable file results in an empty index.
+     *
+     * @param file The file to load the index from.
+     * @return The loaded index.
+     */
+    public static @NotNull DirectoryIndex load(@NotNull Path file) {
+        try (@NotNull DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                DebugUtil.debug("Ignoring directory index with unknown format: {}", file);
+                return empty();
+            }
+
+            int count = input.readInt();
+            @NotNull Map<Long, Entry> entries = new HashMap<>(Math.max(16, count * 4 / 3 + 1));
+
+            for (int i = 0; i < count; i++) {
+                long hash = input.readLong();
+                entries.put(hash, new Entry(input.readLong(), input.readInt(), input.readInt(), input.readLong()));
+            }
+            return new DirectoryIndex(entries);
+        } catch (NoSuchFileException ex) {
+            return empty();
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to load directory index: {}", file, ex);
+            return empty();
+        }
+    }
+
+    /**
+     * Saves the entries recorded by the current cleanup, replacing the file atomically.
+     *
+     * @param file The file to save the index to.
+     */
+    public void save(@NotNull Path file) {
+        @NotNull Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+
+            try (@NotNull DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(current.size());
+
+                for (Map.@NotNull Entry<Long, Entry> mapEntry : current.entrySet()) {
+                    Entry entry = mapEntry.getValue();
+                    output.writeLong(mapEntry.getKey());
+                    output.writeLong(entry.getLastModified());
+                    output.writeInt(entry.getChildCount());
+                    output.writeInt(entry.getDirectoryCount());
+                    output.writeLong(entry.getOldestRemaining());
+                }
+            }
+
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to save directory index: {}", file, ex);
+        }
+    }
+
+    /**
+     * Checks if a folder is unchanged since the previous cleanup and has nothing new to clean,
+     * neither files nor the folder itself.
+     *
+     * @param dir          The folder to check.
+     * @param lastModified The folder's current last modified time, in epoch milliseconds.
+     * @param cutoff       Files last modified before this time (in epoch milliseconds) are cleaned.
+     * @return Whether the folder and everything below it can be skipped.
+     */
+    public boolean isUnchanged(@NotNull Path dir, long lastModified, long cutoff) {
+        @Nullable Entry entry = previous.get(hash(dir));
+
+        return entry != null
+                && entry.getLastModified() == lastModified
+                && entry.getDirectoryCount() == 0
+                && entry.getOldestRemaining() >= cutoff
+                // Folders old enough to be removed themselves are visited, so emptied folders get pruned.
+                && entry.getLastModified() >= cutoff;
+    }
+
+    /**
+     * Copies a folder's entry from the previous cleanup into the current one.
+     *
+     * @param dir The folder that was skipped.
+     */
+    public void carryOver(@NotNull Path dir) {
+        long hash = hash(dir);
+        @Nullable Entry entry = previous.get(hash);
+
+        if (entry != null) {
+            current.put(hash, entry);
+        }
+    }
+
+    /**
+     * Records a folder's state after it was cleaned.
+     *
+     * @param dir   The folder that was cleaned.
+     * @param entry The folder's state.
+     */
+    public void put(@NotNull Path dir, @NotNull Entry entry) {
+        current.put(hash(dir), entry);
+    }
+
+    /**
+     * Gets the number of folders recorded by the current cleanup.
+     *
+     * @return The number of folders.
+     */
+    public int size() {
+        return current.size();
+    }
+
+    /**
+     * Hashes a folder path with 64-bit FNV-1a.
+     * Paths are compared case-insensitively, as they are on Windows.
+     *
+     * @param dir The folder to hash.
+     * @return The hash of the folder's path.
+     */
+    static long hash(@NotNull Path dir) {
+        byte[] bytes = dir.toAbsolutePath().normalize().toString()
+                .toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Represents the state of a folder after a cleanup.
+     */
+    @Data
+    public static class Entry {
+
+        /**
+         * The folder's last modified time after the cleanup, in epoch milliseconds.
+         */
+        private final long lastModified;
+
+        /**
+         * The number of files and folders left in the folder.
+         */
+        private final int childCount;
+
+        /**
+         * The number of folders left in the folder.
+         */
+        private final int directoryCount;
+
+        /**
+         * The oldest last modified time of the files left in the folder,
+         * or {@link Long#MAX_VALUE} if none were left.
+         */
+        private final long oldestRemaining;
+    }
+}
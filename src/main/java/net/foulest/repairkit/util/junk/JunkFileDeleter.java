@@ -0,0 +1,263 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.junk;
+
+import lombok.Data;
+import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.backend.Backends;
+import net.foulest.repairkit.util.log.LogLevel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Deletes junk files concurrently.
+ * <p>
+ * Scanners submit files to a bounded queue while a pool of deleter threads
+ * removes them, limiting how many deletions run at once on each volume.
+ * Deleted files are logged in batches rather than one line per file.
+ *
+ * @author Foulest
+ */
+public class JunkFileDeleter {
+
+    // Marks the end of the queue for the deleter threads
+    private static final JunkFileReport.Entry END_OF_QUEUE = new JunkFileReport.Entry();
+
+    // The number of deleted files logged per log message
+    private static final int LOG_BATCH_SIZE = 256;
+
+    private final @NotNull BlockingQueue<JunkFileReport.Entry> queue;
+    private final @NotNull Map<String, Semaphore> volumePermits = new ConcurrentHashMap<>();
+    private final @NotNull List<Thread> workers = new ArrayList<>();
+    private final int volumeConcurrency;
+
+    private final @NotNull LongAdder deletedFiles = new LongAdder();
+    private final @NotNull LongAdder deletedBytes = new LongAdder();
+    private final @NotNull LongAdder skippedFiles = new LongAdder();
+    private final @NotNull LongAdder failedFiles = new LongAdder();
+
+    private long startTime;
+
+    /**
+     * Creates a new junk file deleter.
+     *
+     * @param workerCount       The number of deleter threads.
+     * @param volumeConcurrency The maximum number of concurrent deletions per volume.
+     * @param queueCapacity     The maximum number of files waiting to be deleted.
+     */
+    public JunkFileDeleter(int workerCount, int volumeConcurrency, int queueCapacity) {
+        this.volumeConcurrency = Math.max(1, volumeConcurrency);
+        queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        for (int i = 0; i < Math.max(1, workerCount); i++) {
+            @NotNull Thread worker = new Thread(this::runWorker, "RepairKit-JunkDeleter-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Creates a new junk file deleter sized for the current machine.
+     *
+     * @return The junk file deleter.
+     */
+    public static @NotNull JunkFileDeleter createDefault() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return new JunkFileDeleter(Math.min(8, Math.max(2, processors)), 4, 4096);
+    }
+
+    /**
+     * Starts the deleter threads.
+     */
+    public void start() {
+        startTime = System.nanoTime();
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * Submits a file to be deleted, waiting if the queue is full.
+     * The file is only deleted if its size and last modified time still match the entry.
+     *
+     * @param entry The file to delete.
+     */
+    public void submit(@NotNull JunkFileReport.Entry entry) {
+        try {
+            queue.put(entry);
+        } catch (InterruptedException ex) {
+            DebugUtil.warn("Interrupted while queueing junk file: {}", entry.getPath(), ex);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for all submitted files to be deleted and stops the deleter threads.
+     *
+     * @return The deletion statistics.
+     */
+    public @NotNull Stats finish() {
+        try {
+            for (int i = 0; i < workers.size(); i++) {
+                queue.put(END_OF_QUEUE);
+            }
+
+            for (@NotNull Thread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException ex) {
+            DebugUtil.warn("Interrupted while waiting for junk file deletion", ex);
+            Thread.currentThread().interrupt();
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        @NotNull Stats stats = new Stats(deletedFiles.sum(), deletedBytes.sum(),
+                skippedFiles.sum(), failedFiles.sum(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        DebugUtil.debug(() -> "Deleted " + stats.getDeletedFiles() + " junk files (" + stats.getDeletedBytes() + " bytes, "
+                + stats.getSkippedFiles() + " skipped, " + stats.getFailedFiles() + " failed) in "
+                + stats.getElapsedMillis() + " ms (" + Math.round(stats.getFilesPerSecond()) + " files/s)");
+        return stats;
+    }
+
+    /**
+     * Takes files from the queue and deletes them until the end of the queue is reached.
+     */
+    private void runWorker() {
+        // Only lists the deleted files when debug messages are printed.
+        @Nullable StringBuilder logBatch = DebugUtil.isEnabled(LogLevel.DEBUG) ? new StringBuilder() : null;
+        int batchSize = 0;
+
+        try {
+            while (true) {
+                JunkFileReport.Entry entry = queue.take();
+
+                if (entry == END_OF_QUEUE) {
+                    break;
+                }
+
+                if (deleteSafely(entry) && logBatch != null) {
+                    logBatch.append("\n  ").append(entry.getPath());
+                    batchSize++;
+
+                    if (batchSize >= LOG_BATCH_SIZE) {
+                        // Logs a copy, as messages are formatted later and the builder is reused.
+                        DebugUtil.debug("Deleted junk files:{}", logBatch.toString());
+                        logBatch.setLength(0);
+                        batchSize = 0;
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            DebugUtil.warn("Junk file deleter was interrupted", ex);
+            Thread.currentThread().interrupt();
+        } finally {
+            if (logBatch != null && batchSize > 0) {
+                DebugUtil.debug("Deleted junk files:{}", logBatch.toString());
+            }
+        }
+    }
+
+    /**
+     * Deletes a single file, counting it as failed if its entry is invalid
+     * (e.g. in a hand-edited report) so the worker keeps running.
+     *
+     * @param entry The file to delete.
+     * @return Whether the file was deleted.
+     * @throws InterruptedException If interrupted while waiting for a permit.
+     */
+    private boolean deleteSafely(@NotNull JunkFileReport.Entry entry) throws InterruptedException {
+        try {
+            return delete(entry);
+        } catch (RuntimeException ex) {
+            DebugUtil.warn("Failed to delete junk file: {}", entry.getPath(), ex);
+            failedFiles.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Deletes a single file, holding one of its volume's permits while doing so.
+     *
+     * @param entry The file to delete.
+     * @return Whether the file was deleted.
+     * @throws InterruptedException If interrupted while waiting for a permit.
+     */
+    private boolean delete(@NotNull JunkFileReport.Entry entry) throws InterruptedException {
+        @NotNull Semaphore permits = volumePermits.computeIfAbsent(entry.getRoot(), root -> new Semaphore(volumeConcurrency));
+        @NotNull Path filePath = Paths.get(entry.getPath());
+
+        permits.acquire();
+        try {
+            BasicFileAttributes attrs = Backends.getFileSystemBackend().readAttributes(filePath);
+
+            // Skips files that changed since they were scanned.
+            if (!attrs.isRegularFile()
+                    || attrs.size() != entry.getSize()
+                    || attrs.lastModifiedTime().toMillis() != entry.getLastModified()) {
+                skippedFiles.increment();
+                return false;
+            }
+
+            Backends.getFileSystemBackend().delete(filePath);
+            deletedFiles.increment();
+            deletedBytes.add(entry.getSize());
+            return true;
+        } catch (NoSuchFileException ex) {
+            skippedFiles.increment();
+            return false;
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to delete file: {}", filePath, ex);
+            failedFiles.increment();
+            return false;
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Represents the statistics of a deletion run.
+     */
+    @Data
+    public static class Stats {
+
+        private final long deletedFiles;
+        private final long deletedBytes;
+        private final long skippedFiles;
+        private final long failedFiles;
+        private final long elapsedMillis;
+
+        /**
+         * Gets the deletion throughput.
+         *
+         * @return The number of files deleted per second.
+         */
+        public double getFilesPerSecond() {
+            return elapsedMillis == 0 ? deletedFiles : deletedFiles * 1000.0 / elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.junk;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Represents the result of a junk file scan.
+ * <p>
+ * A report lists every file that would be deleted along with its size and
+ * last modified time at scan time, so it can be reviewed before being applied.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor
+public class JunkFileReport {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * The time the scan started, in epoch milliseconds.
+     */
+    private long scanStarted;
+
+    /**
+     * The time the scan took, in milliseconds.
+     */
+    private long scanDurationMillis;
+
+    /**
+     * The total number of reclaimable bytes.
+     */
+    private long totalBytes;
+
+    /**
+     * The reclaimable bytes per junk file extension.
+     */
+    private @NotNull Map<String, Long> bytesByExtension = new TreeMap<>();
+
+    /**
+     * The reclaimable bytes per root (drive or scanned folder).
+     */
+    private @NotNull Map<String, Long> bytesByRoot = new TreeMap<>();
+
+    /**
+     * The largest files found in the scan.
+     */
+    private @NotNull List<Entry> largestFiles = new ArrayList<>();
+
+    /**
+     * Every file found in the scan.
+     */
+    private @NotNull List<Entry> files = new ArrayList<>();
+
+    /**
+     * Creates a new, empty report for a scan starting now.
+     *
+     * @return The new report.
+     */
+    public static @NotNull JunkFileReport start() {
+        @NotNull JunkFileReport report = new JunkFileReport();
+        report.scanStarted = System.currentTimeMillis();
+        return report;
+    }
+
+    /**
+     * Adds a file to the report.
+     *
+     * @param entry The file to add.
+     */
+    public synchronized void add(@NotNull Entry entry) {
+        files.add(entry);
+    }
+
+    /**
+     * Finishes the report, computing the totals and the largest files.
+     *
+     * @param topFiles The number of largest files to keep.
+     */
+    public synchronized void finish(int topFiles) {
+        scanDurationMillis = System.currentTimeMillis() - scanStarted;
+        totalBytes = 0;
+        bytesByExtension.clear();
+        bytesByRoot.clear();
+
+        // Keeps the largest files in a min-heap so only the top N are retained.
+        @NotNull PriorityQueue<Entry> largest = new PriorityQueue<>(Comparator.comparingLong(Entry::getSize));
+
+        for (@NotNull Entry entry : files) {
+            totalBytes += entry.getSize();
+            bytesByExtension.merge(entry.getExtension(), entry.getSize(), Long::sum);
+            bytesByRoot.merge(entry.getRoot(), entry.getSize(), Long::sum);
+
+            if (topFiles > 0) {
+                largest.add(entry);
+
+                if (largest.size() > topFiles) {
+                    largest.poll();
+                }
+            }
+        }
+
+        largestFiles = new ArrayList<>(largest);
+        largestFiles.sort(Comparator.comparingLong(Entry::getSize).reversed());
+    }
+
+    /**
+     * Writes the report as JSON.
+     *
+     * @param path The path to write the report to.
+     * @throws IOException If the report could not be written.
+     */
+    public void writeJson(@NotNull Path path) throws IOException {
+        createParentDirectories(path);
+
+        try (@NotNull Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            GSON.toJson(this, writer);
+        }
+    }
+
+    /**
+     * Writes the report's file list as CSV.
+     *
+     * @param path The path to write the report to.
+     * @throws IOException If the report could not be written.
+     */
+    public void writeCsv(@NotNull Path path) throws IOException {
+        createParentDirectories(path);
+
+        try (@NotNull BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("path,extension,root,size,lastModified");
+            writer.newLine();
+
+            for (@NotNull Entry entry : files) {
+                writer.write(escapeCsv(entry.getPath()) + ","
+                        + escapeCsv(entry.getExtension()) + ","
+                        + escapeCsv(entry.getRoot()) + ","
+                        + entry.getSize() + ","
+                        + entry.getLastModified());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Reads a report previously written with {@link #writeJson(Path)}.
+     *
+     * @param path The path to read the report from.
+     * @return The report, or null if the file is empty.
+     * @throws IOException If the report could not be read.
+     */
+    public static @Nullable JunkFileReport readJson(@NotNull Path path) throws IOException {
+        try (@NotNull Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, JunkFileReport.class);
+        }
+    }
+
+    /**
+     * Creates the parent directories of a path if needed.
+     *
+     * @param path The path to create the parent directories of.
+     * @throws IOException If the directories could not be created.
+     */
+    private static void createParentDirectories(@NotNull Path path) throws IOException {
+        @Nullable Path parent = path.toAbsolutePath().getParent();
+
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+
+    /**
+     * Escapes a value for use in a CSV file.
+     *
+     * @param value The value to escape.
+     * @return The escaped value.
+     */
+    private static @NotNull String escapeCsv(@NotNull String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Represents a single junk file in the report.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+
+        /**
+         * The absolute path of the file.
+         */
+        private @NotNull String path = "";
+
+        /**
+         * The junk file extension the file matched.
+         */
+        private @NotNull String extension = "";
+
+        /**
+         * The root the file was found under.
+         */
+        private @NotNull String root = "";
+
+        /**
+         * The size of the file at scan time, in bytes.
+         */
+        private long size;
+
+        /**
+         * The last modified time of the file at scan time, in epoch milliseconds.
+         */
+        private long lastModified;
+    }
+}
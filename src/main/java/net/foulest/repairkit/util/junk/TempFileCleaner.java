@@ -0,0 +1,356 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.junk;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import net.foulest.repairkit.util.DebugUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Cleans a temp folder in-process.
+ * <p>
+ * Walks the folder depth-first, deleting regular files last modified before
+ * the cutoff and then pruning directories left empty. Files that are locked
+ * or otherwise can't be deleted are counted and skipped. Symbolic links and
+ * junctions are neither followed nor deleted.
+ * <p>
+ * When given a {@link DirectoryIndex}, folders that haven't changed since the
+ * previous cleanup are skipped, so repeat cleanups only walk what changed.
+ *
+ * @author Foulest
+ */
+public class TempFileCleaner {
+
+    // The number of visited files between progress updates
+    private static final int PROGRESS_INTERVAL = 500;
+
+    @Getter
+    private final @NotNull Path root;
+    private final @Nullable Instant cutoff;
+
+    /**
+     * Paths that are skipped along with everything below them.
+     */
+    @Setter
+    private @NotNull Collection<Path> excludedPaths = Set.of();
+
+    /**
+     * Whether files are only reported rather than deleted.
+     */
+    @Getter
+    @Setter
+    private boolean dryRun;
+
+    /**
+     * The report that found files are added to when running as a dry run.
+     */
+    @Setter
+    private @Nullable JunkFileReport report;
+
+    /**
+     * The index of folders seen by the previous cleanup, used to skip unchanged folders.
+     */
+    @Setter
+    private @Nullable DirectoryIndex index;
+
+    /**
+     * The listener notified as the cleanup progresses.
+     */
+    @Setter
+    private @Nullable ProgressListener progressListener;
+
+    /**
+     * Creates a new temp folder cleaner.
+     *
+     * @param root   The folder to clean.
+     * @param cutoff Only files last modified before this time are deleted, or null to delete all files.
+     */
+    public TempFileCleaner(@NotNull Path root, @Nullable Instant cutoff) {
+        this.root = root.toAbsolutePath().normalize();
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Cleans the folder.
+     *
+     * @return The cleanup result.
+     */
+    public @NotNull Result clean() {
+        long startTime = System.currentTimeMillis();
+        @NotNull Result result = new Result(root.toString());
+
+        if (!Files.isDirectory(root)) {
+            DebugUtil.debug("Temp folder does not exist: {}", root);
+            return result;
+        }
+
+        try {
+            Files.walkFileTree(root, new CleaningVisitor(result));
+        } catch (IOException ex) {
+            DebugUtil.warn("Failed to clean temp folder: {}", root, ex);
+        }
+
+        result.setElapsedMillis(System.currentTimeMillis() - startTime);
+        notifyProgress(result);
+
+        DebugUtil.debug(() -> (dryRun ? "Found " : "Deleted ") + result.getFilesDeleted() + " temp files ("
+                + result.getBytesDeleted() + " bytes, " + result.getDirectoriesDeleted() + " folders, "
+                + result.getLockedFiles() + " locked, " + result.getDirectoriesSkipped() + " unchanged folders skipped) in "
+                + root + " in " + result.getElapsedMillis() + " ms");
+        return result;
+    }
+
+    /**
+     * Checks if a last modified time is old enough to be cleaned.
+     *
+     * @param lastModified The last modified time, in epoch milliseconds.
+     * @return Whether the time is before the cutoff.
+     */
+    private boolean isExpired(long lastModified) {
+        return cutoff == null || lastModified < cutoff.toEpochMilli();
+    }
+
+    /**
+     * Notifies the progress listener, if any.
+     *
+     * @param result The current result.
+     */
+    private void notifyProgress(@NotNull Result result) {
+        if (progressListener != null) {
+            progressListener.onProgress(result);
+        }
+    }
+
+    /**
+     * Gets the extension of a file name for reporting.
+     *
+     * @param fileName The file name.
+     * @return The lowercase extension including the dot, or "(none)".
+     */
+    private static @NotNull String getExtension(@NotNull String fileName) {
+        int index = fileName.lastIndexOf('.');
+        return index <= 0 ? "(none)" : fileName.substring(index).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Visits the folder tree, deleting files on the way down and empty folders on the way up.
+     */
+    private final class CleaningVisitor extends SimpleFileVisitor<Path> {
+
+        private final @NotNull Result result;
+
+        // The folders being visited, from the deepest to the root
+        private final @NotNull Deque<DirectoryState> directories = new ArrayDeque<>();
+
+        private CleaningVisitor(@NotNull Result result) {
+            this.result = result;
+        }
+
+        @Override
+        public @NotNull FileVisitResult preVisitDirectory(@NotNull Path dir, @NotNull BasicFileAttributes attrs) {
+            long lastModified = attrs.lastModifiedTime().toMillis();
+
+            if (excludedPaths.stream().anyMatch(dir::startsWith)) {
+                countRemainingChild(true, Long.MAX_VALUE);
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+
+            // Skips junctions and other reparse points, which Windows reports as
+            // directories that are also "other" files; walking into them would
+            // clean the folder they point to.
+            if (attrs.isOther() && !dir.equals(root)) {
+                countRemainingChild(true, Long.MAX_VALUE);
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+
+            // Skips folders that haven't changed since the previous cleanup.
+            if (index != null && !dir.equals(root)
+                    && index.isUnchanged(dir, lastModified, cutoff == null ? Long.MAX_VALUE : cutoff.toEpochMilli())) {
+                index.carryOver(dir);
+                result.setDirectoriesSkipped(result.getDirectoriesSkipped() + 1);
+                countRemainingChild(true, Long.MAX_VALUE);
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+
+            directories.push(new DirectoryState(lastModified));
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public @NotNull FileVisitResult visitFile(@NotNull Path file, @NotNull BasicFileAttributes attrs) {
+            result.setFilesScanned(result.getFilesScanned() + 1);
+
+            if (result.getFilesScanned() % PROGRESS_INTERVAL == 0) {
+                notifyProgress(result);
+            }
+
+            // Only deletes regular files, not symbolic links or junctions.
+            if (!attrs.isRegularFile()) {
+                countRemainingChild(false, Long.MAX_VALUE);
+                return FileVisitResult.CONTINUE;
+            }
+
+            long lastModified = attrs.lastModifiedTime().toMillis();
+
+            if (!isExpired(lastModified)) {
+                countRemainingChild(false, lastModified);
+                return FileVisitResult.CONTINUE;
+            }
+
+            if (dryRun) {
+                if (report != null) {
+                    @NotNull Path fileName = file.getFileName();
+                    report.add(new JunkFileReport.Entry(file.toString(), getExtension(fileName.toString()),
+                            root.toString(), attrs.size(), attrs.lastModifiedTime().toMillis()));
+                }
+            } else {
+                try {
+                    Files.delete(file);
+                } catch (NoSuchFileException ex) {
+                    return FileVisitResult.CONTINUE;
+                } catch (IOException ex) {
+                    // Files in use by other programs are expected in temp folders.
+                    result.setLockedFiles(result.getLockedFiles() + 1);
+                    countRemainingChild(false, lastModified);
+                    return FileVisitResult.CONTINUE;
+                }
+            }
+
+            result.setFilesDeleted(result.getFilesDeleted() + 1);
+            result.setBytesDeleted(result.getBytesDeleted() + attrs.size());
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public @NotNull FileVisitResult visitFileFailed(@NotNull Path file, @NotNull IOException exc) {
+            // Folders we can't open are skipped like locked files, and checked again next time.
+            result.setLockedFiles(result.getLockedFiles() + 1);
+            countRemainingChild(true, Long.MIN_VALUE);
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public @NotNull FileVisitResult postVisitDirectory(@NotNull Path dir, @Nullable IOException exc) {
+            @NotNull DirectoryState state = directories.pop();
+
+            // Never deletes the root itself, and leaves recently changed folders alone.
+            if (!dryRun && !dir.equals(root) && isExpired(state.lastModified)) {
+                try {
+                    Files.delete(dir);
+                    result.setDirectoriesDeleted(result.getDirectoriesDeleted() + 1);
+                    return FileVisitResult.CONTINUE;
+                } catch (DirectoryNotEmptyException | NoSuchFileException ignored) {
+                    // The folder still has files in it, or was already removed.
+                } catch (IOException ex) {
+                    result.setLockedFiles(result.getLockedFiles() + 1);
+                }
+            }
+
+            // Records the folder as it was left, for the next cleanup to compare against.
+            if (index != null) {
+                try {
+                    long lastModified = Files.getLastModifiedTime(dir).toMillis();
+                    index.put(dir, new DirectoryIndex.Entry(lastModified, state.childCount,
+                            state.directoryCount, state.oldestRemaining));
+                } catch (IOException ignored) {
+                    // The folder was removed by another program.
+                }
+            }
+
+            countRemainingChild(true, state.oldestRemaining);
+            return FileVisitResult.CONTINUE;
+        }
+
+        /**
+         * Counts a file or folder left behind in the folder currently being visited.
+         *
+         * @param directory    Whether the child is a folder.
+         * @param lastModified The child's last modified time, or the oldest time left below it.
+         */
+        private void countRemainingChild(boolean directory, long lastModified) {
+            @Nullable DirectoryState parent = directories.peek();
+
+            if (parent != null) {
+                parent.childCount++;
+                parent.oldestRemaining = Math.min(parent.oldestRemaining, lastModified);
+
+                if (directory) {
+                    parent.directoryCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tracks the children left in a folder while it is being visited.
+     */
+    private static final class DirectoryState {
+
+        private final long lastModified;
+        private int childCount;
+        private int directoryCount;
+        private long oldestRemaining = Long.MAX_VALUE;
+
+        private DirectoryState(long lastModified) {
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * Represents the result of a temp folder cleanup.
+     */
+    @Data
+    public static class Result {
+
+        private final @NotNull String root;
+        private long filesScanned;
+        private long filesDeleted;
+        private long bytesDeleted;
+        private long directoriesDeleted;
+        private long lockedFiles;
+        private long directoriesSkipped;
+        private long elapsedMillis;
+    }
+
+    /**
+     * Listener for temp folder cleanup progress.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Called periodically during a cleanup and once when it finishes.
+         *
+         * @param result The result so far.
+         */
+        void onProgress(@NotNull Result result);
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.log;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes log messages to a file and the console on a background thread.
+ * <p>
+ * Producers claim slots in a bounded, lock-free ring buffer; a single writer
+ * thread drains it, keeping the log file open and writing messages in batches.
+ * A batch is written once it grows past a size limit or the buffer runs empty,
+ * and the writer sleeps for a short interval when there's nothing to write,
+ * letting messages accumulate into the next batch. When the buffer is full,
+ * producers wait for the writer rather than dropping messages.
+ * <p>
+ * With a {@link LogRotator}, the previous run's log file is archived before
+ * the first write, and the log file is rotated once it grows past the size limit.
+ *
+ * @author Foulest
+ */
+public class AsyncLogAppender {
+
+    // The number of bytes after which a batch is written without waiting for more messages
+    private static final int BATCH_BYTES = 64 * 1024;
+
+    // The interval the writer sleeps for when there are no messages
+    private static final long IDLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    // The maximum time to wait for a flush
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final @NotNull Path file;
+    private final @Nullable PrintStream console;
+    private final @Nullable LogRotator rotator;
+    private final boolean timestamped;
+    private final int mask;
+
+    // Each slot's sequence: equal to its position when free, and one past it once written
+    private final @NotNull AtomicLongArray sequences;
+    private final @NotNull Object[] messages;
+    private final @NotNull LocalTime[] times;
+
+    // The next position producers claim, and the next position the writer reads
+    private final @NotNull AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    // The position up to which messages have been written to the file
+    private volatile long written;
+
+    private volatile boolean closed;
+
+    private final @NotNull Thread writer;
+    private @Nullable FileChannel channel;
+    private long fileSize;
+    private boolean writeFailed;
+
+    /**
+     * Creates a new log appender.
+     *
+     * @param file     The log file to append to.
+     * @param console  The stream to echo messages to, or null to only write to the file.
+     * @param capacity The capacity of the ring buffer, rounded up to a power of two.
+     */
+    public AsyncLogAppender(@NotNull Path file, @Nullable PrintStream console, int capacity) {
+        this(file, console, capacity, null);
+    }
+
+    /**
+     * Creates a new log appender that rotates its log file.
+     *
+     * @param file     The log file to append to.
+     * @param console  The stream to echo messages to, or null to only write to the file.
+     * @param capacity The capacity of the ring buffer, rounded up to a power of two.
+     * @param rotator  The rotator archiving and rotating the log file, or null to append to it indefinitely.
+     */
+    public AsyncLogAppender(@NotNull Path file, @Nullable PrintStream console,
+                            int capacity, @Nullable LogRotator rotator) {
+        this(file, console, capacity, rotator, true);
+    }
+
+    /**
+     * Creates a new log appender.
+     *
+     * @param file        The log file to append to.
+     * @param console     The stream to echo messages to, or null to only write to the file.
+     * @param capacity    The capacity of the ring buffer, rounded up to a power of two.
+     * @param rotator     The rotator archiving and rotating the log file, or null to append to it indefinitely.
+     * @param timestamped Whether each line starts with the time its message was appended.
+     */
+    public AsyncLogAppender(@NotNull Path file, @Nullable PrintStream console,
+                            int capacity, @Nullable LogRotator rotator, boolean timestamped) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.file = file;
+        this.console = console;
+        this.rotator = rotator;
+        this.timestamped = timestamped;
+        mask = size - 1;
+        sequences = new AtomicLongArray(size);
+        messages = new Object[size];
+        times = new LocalTime[size];
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+
+        writer = new Thread(this::runWriter, "RepairKit-LogWriter");
+        writer.setDaemon(true);
+    }
+
+    /**
+     * Starts the writer thread.
+     */
+    public void start() {
+        writer.start();
+    }
+
+    /**
+     * Appends a message, waiting only if the ring buffer is full.
+     *
+     * @param message The message to append; a {@link LogMessage} or any object formatted
+     *                with {@link String#valueOf(Object)}, formatted on the writer thread.
+     */
+    public void append(@NotNull Object message) {
+        @NotNull LocalTime time = LocalTime.now();
+        int spins = 0;
+
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long sequence = sequences.get(index);
+
+            if (sequence == position) {
+                // The slot is free; claims it.
+                if (tail.compareAndSet(position, position + 1)) {
+                    messages[index] = message;
+                    times[index] = time;
+                    sequences.set(index, position + 1);
+                    return;
+                }
+            } else if (sequence < position) {
+                // The buffer is full; waits for the writer to catch up.
+                if (closed || !writer.isAlive()) {
+                    return;
+                }
+
+                LockSupport.unpark(writer);
+
+                if (++spins < 100) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until every message appended so far has been written.
+     */
+    public void flush() {
+        long target = tail.get();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+
+        while (written < target && writer.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Writes the remaining messages and stops the writer thread.
+     */
+    public void close() {
+        flush();
+        closed = true;
+        LockSupport.unpark(writer);
+
+        try {
+            writer.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (rotator != null) {
+            rotator.awaitArchiving(FLUSH_TIMEOUT_NANOS, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Drains the ring buffer into batches and writes them until closed.
+     */
+    private void runWriter() {
+        @NotNull StringBuilder batch = new StringBuilder(BATCH_BYTES);
+
+        if (rotator != null) {
+            rotator.archivePreviousRun();
+        }
+
+        while (true) {
+            boolean drained = false;
+
+            // Drains messages until the buffer is empty or the batch is large enough.
+            while (batch.length() < BATCH_BYTES) {
+                long position = head;
+                int index = (int) (position & mask);
+
+                if (sequences.get(index) != position + 1) {
+                    drained = true;
+                    break;
+                }
+
+                @Nullable Object message = messages[index];
+                @Nullable LocalTime time = times[index];
+                messages[index] = null;
+                times[index] = null;
+                sequences.set(index, position + mask + 1);
+                head = position + 1;
+
+                if (timestamped) {
+                    batch.append('[').append(time).append("] ");
+                }
+
+                appendMessage(batch, message);
+                batch.append('\n');
+            }
+
+            if (batch.length() > 0) {
+                write(batch);
+                batch.setLength(0);
+            }
+
+            written = head;
+
+            if (drained) {
+                if (closed) {
+                    closeFile();
+                    return;
+                }
+
+                LockSupport.parkNanos(this, IDLE_INTERVAL_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Formats a message into the batch.
+     *
+     * @param batch   The batch to append the message to.
+     * @param message The message to format.
+     */
+    private static void appendMessage(@NotNull StringBuilder batch, @Nullable Object message) {
+        int length = batch.length();
+
+        try {
+            if (message instanceof LogMessage) {
+                ((LogMessage) message).formatTo(batch);
+            } else {
+                batch.append(message);
+            }
+        } catch (RuntimeException ex) {
+            // A message argument's toString() failed; keeps the writer alive.
+            batch.setLength(length);
+            batch.append("Failed to format log message: ").append(ex);
+        }
+    }
+
+    /**
+     * Writes a batch to the console and the log file.
+     *
+     * @param batch The batch of formatted messages.
+     */
+    private void write(@NotNull CharSequence batch) {
+        if (console != null) {
+            console.print(batch);
+        }
+
+        // Starts a new log file once the current one is full.
+        if (rotator != null && channel != null && fileSize >= rotator.getMaxFileBytes()) {
+            closeFile();
+            rotator.rollOver();
+        }
+
+        try {
+            @Nullable FileChannel fileChannel = getChannel();
+
+            if (fileChannel != null) {
+                @NotNull ByteBuffer buffer = ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8));
+
+                while (buffer.hasRemaining()) {
+                    fileSize += fileChannel.write(buffer);
+                }
+            }
+        } catch (IOException ex) {
+            reportFailure(ex);
+        }
+    }
+
+    /**
+     * Gets the open log file, opening it on first use.
+     *
+     * @return The log file's channel, or null if it couldn't be opened.
+     */
+    private @Nullable FileChannel getChannel() {
+        if (channel == null && !writeFailed) {
+            try {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                fileSize = channel.size();
+            } catch (IOException ex) {
+                reportFailure(ex);
+            }
+        }
+        return channel;
+    }
+
+    /**
+     * Closes the log file.
+     */
+    private void closeFile() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                reportFailure(ex);
+            }
+
+            channel = null;
+        }
+    }
+
+    /**
+     * Reports a failure to write the log file once, then keeps logging to the console only.
+     *
+     * @param ex The failure.
+     */
+    private void reportFailure(@NotNull IOException ex) {
+        if (!writeFailed) {
+            writeFailed = true;
+            System.err.println("Failed to write log file: " + file + " (" + ex.getMessage() + ")");
+        }
+    }
+}
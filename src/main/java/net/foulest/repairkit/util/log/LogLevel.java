@@ -0,0 +1,80 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.log;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * The levels of log messages, from most to least verbose.
+ *
+ * @author Foulest
+ */
+public enum LogLevel {
+
+    /**
+     * Fine-grained messages printed for every item on hot paths, such as each line of command output.
+     */
+    TRACE,
+
+    /**
+     * Messages describing individual operations, such as running a command or setting a registry value.
+     */
+    DEBUG,
+
+    /**
+     * Messages summarizing the progress of a task.
+     */
+    INFO,
+
+    /**
+     * Warnings about failed operations.
+     */
+    WARN;
+
+    /**
+     * Checks whether messages of this level are printed at a given threshold.
+     *
+     * @param threshold The least severe level that's printed.
+     * @return Whether messages of this level are printed.
+     */
+    public boolean isEnabledAt(@NotNull LogLevel threshold) {
+        return ordinal() >= threshold.ordinal();
+    }
+
+    /**
+     * Parses a log level from its name, ignoring case.
+     *
+     * @param name     The name of the level, such as {@code debug}.
+     * @param fallback The level to return if the name isn't a valid level.
+     * @return The parsed level, or the fallback.
+     */
+    public static @NotNull LogLevel parse(@Nullable String name, @NotNull LogLevel fallback) {
+        if (name == null || name.isBlank()) {
+            return fallback;
+        }
+
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return fallback;
+        }
+    }
+}
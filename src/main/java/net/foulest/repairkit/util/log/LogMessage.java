@@ -0,0 +1,150 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.log;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A log message that's formatted lazily, on the log writer thread.
+ * <p>
+ * Messages are created from a pattern with {@code {}} placeholders and the
+ * arguments to substitute for them, so callers on hot paths don't build any
+ * strings. Warnings also carry the exception, whose stack trace is only
+ * formatted when the message is written. Arguments are converted to strings
+ * when the message is written, so they shouldn't be modified after logging.
+ *
+ * @author Foulest
+ */
+public final class LogMessage {
+
+    private static final String PLACEHOLDER = "{}";
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final @NotNull String pattern;
+    private final @Nullable Object @NotNull [] arguments;
+    private final @Nullable Throwable exception;
+
+    /**
+     * Creates a new log message.
+     *
+     * @param pattern   The message pattern.
+     * @param arguments The arguments to substitute for the pattern's placeholders.
+     * @param exception The exception to describe after the message, or null for a regular message.
+     */
+    private LogMessage(@NotNull String pattern, @Nullable Object @NotNull [] arguments, @Nullable Throwable exception) {
+        this.pattern = pattern;
+        this.arguments = arguments;
+        this.exception = exception;
+    }
+
+    /**
+     * Creates a message from a pattern and its arguments.
+     *
+     * @param pattern   The message pattern, with a {@code {}} placeholder for each argument.
+     * @param arguments The arguments to substitute for the placeholders.
+     * @return The message.
+     */
+    public static @NotNull LogMessage of(@NotNull String pattern, @Nullable Object... arguments) {
+        return new LogMessage(pattern, arguments == null ? NO_ARGUMENTS : arguments, null);
+    }
+
+    /**
+     * Creates a warning describing an exception.
+     *
+     * @param pattern   The message pattern, with a {@code {}} placeholder for each argument.
+     * @param exception The exception to describe.
+     * @param arguments The arguments to substitute for the placeholders.
+     * @return The warning.
+     */
+    public static @NotNull LogMessage warning(@NotNull String pattern, @NotNull Throwable exception,
+                                              @Nullable Object... arguments) {
+        return new LogMessage(pattern, arguments == null ? NO_ARGUMENTS : arguments, exception);
+    }
+
+    /**
+     * Formats the message, appending it to a builder.
+     *
+     * @param builder The builder to append the message to.
+     */
+    public void formatTo(@NotNull StringBuilder builder) {
+        if (exception != null) {
+            builder.append("[WARNING] ");
+        }
+
+        // Substitutes each argument for the next placeholder; extra placeholders are kept as-is.
+        int start = 0;
+
+        for (@Nullable Object argument : arguments) {
+            int placeholder = pattern.indexOf(PLACEHOLDER, start);
+
+            if (placeholder == -1) {
+                break;
+            }
+
+            builder.append(pattern, start, placeholder).append(argument);
+            start = placeholder + PLACEHOLDER.length();
+        }
+
+        builder.append(pattern, start, pattern.length());
+
+        if (exception != null) {
+            appendException(builder, exception);
+        }
+    }
+
+    /**
+     * Describes an exception's message, cause and stack trace.
+     *
+     * @param builder   The builder to append the description to.
+     * @param exception The exception to describe.
+     */
+    private static void appendException(@NotNull StringBuilder builder, @NotNull Throwable exception) {
+        @Nullable Throwable cause = exception.getCause();
+        @Nullable String exMessage = exception.getMessage();
+
+        if (exMessage != null) {
+            builder.append(" (Message: ").append(exMessage).append(')');
+        }
+
+        builder.append(" (Cause: ").append(cause == null ? "" : cause.getMessage()).append(')');
+
+        StackTraceElement @Nullable [] stackTrace = exception.getStackTrace();
+
+        if (stackTrace != null) {
+            builder.append(" (Stack Trace: [");
+
+            for (int i = 0; i < stackTrace.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+
+                builder.append(stackTrace[i]);
+            }
+
+            builder.append("])");
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        @NotNull StringBuilder builder = new StringBuilder(pattern.length() + 32);
+        formatTo(builder);
+        return builder.toString();
+    }
+}
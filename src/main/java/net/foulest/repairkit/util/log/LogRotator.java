@@ -0,0 +1,395 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.log;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rotates the log file and keeps compressed archives of previous runs.
+ * <p>
+ * The current run always logs to the same file. Once it grows past the size
+ * limit, it's moved to a {@code pending} folder in the archive folder and a
+ * new file is started; only the newest parts of each run are kept. When the
+ * next run starts, the previous run's final log file and pending parts are
+ * moved into a folder named after the time the run ended. Only the newest
+ * runs are kept.
+ * <p>
+ * Renames happen on the log writer thread, as they're needed before the next
+ * write. Compressing parts with gzip and deleting old runs happens on a
+ * low-priority background thread, so writing the log never waits for them.
+ *
+ * @author Foulest
+ */
+public class LogRotator {
+
+    private static final String PENDING_FOLDER = "pending";
+    private static final String PART_PREFIX = "part-";
+    private static final String LOG_EXTENSION = ".log";
+    private static final String GZIP_EXTENSION = ".gz";
+
+    // The format of run folder names, which sort in chronological order
+    private static final DateTimeFormatter RUN_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss", Locale.ROOT);
+
+    private final @NotNull Path logFile;
+    private final @NotNull Path archiveFolder;
+    private final long maxFileBytes;
+    private final int maxParts;
+    private final int maxRuns;
+
+    // The number of the next part of the current run
+    private int nextPart;
+
+    // Compresses and deletes archived files in the background
+    private @Nullable ExecutorService archiver;
+
+    /**
+     * Creates a new log rotator.
+     *
+     * @param logFile       The log file the current run writes to.
+     * @param archiveFolder The folder to keep archived logs in.
+     * @param maxFileBytes  The size past which the log file is rotated.
+     * @param maxParts      The maximum number of rotated parts kept per run.
+     * @param maxRuns       The maximum number of previous runs kept.
+     */
+    public LogRotator(@NotNull Path logFile, @NotNull Path archiveFolder,
+                      long maxFileBytes, int maxParts, int maxRuns) {
+        this.logFile = logFile;
+        this.archiveFolder = archiveFolder;
+        this.maxFileBytes = maxFileBytes;
+        this.maxParts = Math.max(1, maxParts);
+        this.maxRuns = Math.max(0, maxRuns);
+    }
+
+    /**
+     * Gets the size past which the log file is rotated.
+     *
+     * @return The maximum size of the log file, in bytes.
+     */
+    public long getMaxFileBytes() {
+        return maxFileBytes;
+    }
+
+    /**
+     * Archives the previous run's log file and parts, then removes runs past the retention limit.
+     * Called on the log writer thread before the log file is first opened.
+     */
+    public void archivePreviousRun() {
+        @NotNull Path pendingFolder = archiveFolder.resolve(PENDING_FOLDER);
+
+        try {
+            boolean hasLogFile = Files.isRegularFile(logFile) && Files.size(logFile) > 0;
+            boolean hasParts = !listFiles(pendingFolder).isEmpty();
+
+            if (hasLogFile || hasParts) {
+                // Names the run after the time its log file was last written.
+                @NotNull Instant endTime = hasLogFile ? Files.getLastModifiedTime(logFile).toInstant() : Instant.now();
+
+                if (hasLogFile) {
+                    Files.createDirectories(pendingFolder);
+                    Files.move(logFile, pendingFolder.resolve(PART_PREFIX + (getLastPart(pendingFolder) + 1) + LOG_EXTENSION));
+                }
+
+                Files.move(pendingFolder, getRunFolder(endTime));
+            }
+
+            Files.deleteIfExists(logFile);
+            Files.deleteIfExists(pendingFolder);
+        } catch (IOException ex) {
+            reportFailure("Failed to archive previous log file", ex);
+        }
+
+        submit(() -> {
+            compressRuns();
+            deleteOldRuns();
+        });
+    }
+
+    /**
+     * Moves the full log file to the current run's pending parts and compresses it in the background.
+     * Called on the log writer thread after the log file is closed.
+     */
+    public void rollOver() {
+        @NotNull Path pendingFolder = archiveFolder.resolve(PENDING_FOLDER);
+        @NotNull Path part = pendingFolder.resolve(PART_PREFIX + nextPart + LOG_EXTENSION);
+
+        try {
+            Files.createDirectories(pendingFolder);
+            Files.move(logFile, part, StandardCopyOption.REPLACE_EXISTING);
+            nextPart++;
+        } catch (IOException ex) {
+            reportFailure("Failed to rotate log file", ex);
+
+            // Empties the log file instead, so it stays within the size limit.
+            try {
+                Files.deleteIfExists(logFile);
+            } catch (IOException ignored) {
+                // The appender keeps writing to the existing file.
+            }
+            return;
+        }
+
+        submit(() -> {
+            compress(part);
+            deleteOldParts(pendingFolder);
+        });
+    }
+
+    /**
+     * Waits for the background compression and deletion to finish.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit    The unit of the timeout.
+     */
+    public void awaitArchiving(long timeout, @NotNull TimeUnit unit) {
+        @Nullable ExecutorService executor;
+
+        synchronized (this) {
+            executor = archiver;
+            archiver = null;
+        }
+
+        if (executor != null) {
+            executor.shutdown();
+
+            try {
+                executor.awaitTermination(timeout, unit);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Runs a task on the background archiver thread, starting it on first use.
+     *
+     * @param task The task to run.
+     */
+    private synchronized void submit(@NotNull Runnable task) {
+        if (archiver == null) {
+            archiver = Executors.newSingleThreadExecutor(runnable -> {
+                @NotNull Thread thread = new Thread(runnable, "RepairKit-LogArchiver");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+
+        archiver.execute(task);
+    }
+
+    /**
+     * Gets a folder name for a run that isn't taken yet.
+     *
+     * @param endTime The time the run ended.
+     * @return The folder to archive the run in.
+     */
+    private @NotNull Path getRunFolder(@NotNull Instant endTime) {
+        @NotNull String name = LocalDateTime.ofInstant(endTime, ZoneId.systemDefault()).format(RUN_FORMAT);
+        @NotNull Path runFolder = archiveFolder.resolve(name);
+
+        for (int suffix = 1; Files.exists(runFolder); suffix++) {
+            runFolder = archiveFolder.resolve(name + "_" + suffix);
+        }
+        return runFolder;
+    }
+
+    /**
+     * Compresses any parts left uncompressed in the archived runs, e.g. by a previous run exiting mid-compression.
+     */
+    private void compressRuns() {
+        for (@NotNull Path runFolder : listRuns()) {
+            for (@NotNull Path part : listFiles(runFolder)) {
+                @NotNull String name = part.getFileName().toString();
+
+                if (name.endsWith(GZIP_EXTENSION + ".tmp")) {
+                    deleteQuietly(part);
+                } else if (name.endsWith(LOG_EXTENSION)) {
+                    compress(part);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the oldest runs past the retention limit.
+     */
+    private void deleteOldRuns() {
+        @NotNull List<Path> runs = listRuns();
+
+        for (int i = 0; i < runs.size() - maxRuns; i++) {
+            for (@NotNull Path file : listFiles(runs.get(i))) {
+                deleteQuietly(file);
+            }
+
+            deleteQuietly(runs.get(i));
+        }
+    }
+
+    /**
+     * Deletes the current run's oldest parts past the part limit.
+     *
+     * @param pendingFolder The folder holding the current run's parts.
+     */
+    private void deleteOldParts(@NotNull Path pendingFolder) {
+        @NotNull List<Path> parts = listFiles(pendingFolder);
+        parts.sort(Comparator.comparingInt(LogRotator::getPartNumber));
+
+        for (int i = 0; i < parts.size() - maxParts; i++) {
+            deleteQuietly(parts.get(i));
+        }
+    }
+
+    /**
+     * Compresses a log file with gzip, replacing it with the compressed file.
+     *
+     * @param file The log file to compress.
+     */
+    private static void compress(@NotNull Path file) {
+        @NotNull Path compressed = file.resolveSibling(file.getFileName() + GZIP_EXTENSION);
+        @NotNull Path tempFile = file.resolveSibling(file.getFileName() + GZIP_EXTENSION + ".tmp");
+
+        try {
+            try (@NotNull InputStream input = Files.newInputStream(file);
+                 @NotNull OutputStream output = new GZIPOutputStream(Files.newOutputStream(tempFile), 65536)) {
+                input.transferTo(output);
+            }
+
+            Files.move(tempFile, compressed, StandardCopyOption.REPLACE_EXISTING);
+            Files.delete(file);
+        } catch (NoSuchFileException ignored) {
+            // The part was already deleted for being past the part limit.
+            deleteQuietly(tempFile);
+        } catch (IOException ex) {
+            reportFailure("Failed to compress log file: " + file, ex);
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * Lists the archived runs, oldest first.
+     *
+     * @return The run folders.
+     */
+    private @NotNull List<Path> listRuns() {
+        @NotNull List<Path> runs = new ArrayList<>();
+
+        for (@NotNull Path path : listFiles(archiveFolder)) {
+            if (Files.isDirectory(path) && !path.getFileName().toString().equals(PENDING_FOLDER)) {
+                runs.add(path);
+            }
+        }
+
+        runs.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        return runs;
+    }
+
+    /**
+     * Gets the highest part number in a folder.
+     *
+     * @param folder The folder to check.
+     * @return The highest part number, or -1 if there are no parts.
+     */
+    private static int getLastPart(@NotNull Path folder) {
+        int lastPart = -1;
+
+        for (@NotNull Path part : listFiles(folder)) {
+            lastPart = Math.max(lastPart, getPartNumber(part));
+        }
+        return lastPart;
+    }
+
+    /**
+     * Gets the number of a part from its file name, such as {@code part-3.log.gz}.
+     *
+     * @param part The part's path.
+     * @return The part number, or -1 if the file isn't a part.
+     */
+    private static int getPartNumber(@NotNull Path part) {
+        @NotNull String name = part.getFileName().toString();
+
+        if (!name.startsWith(PART_PREFIX)) {
+            return -1;
+        }
+
+        int end = name.indexOf('.', PART_PREFIX.length());
+
+        try {
+            return Integer.parseInt(name.substring(PART_PREFIX.length(), end == -1 ? name.length() : end));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * Lists the files in a folder.
+     *
+     * @param folder The folder to list.
+     * @return The files, or an empty list if the folder doesn't exist.
+     */
+    private static @NotNull List<Path> listFiles(@NotNull Path folder) {
+        if (!Files.isDirectory(folder)) {
+            return new ArrayList<>();
+        }
+
+        try (@NotNull Stream<Path> files = Files.list(folder)) {
+            return new ArrayList<>(files.toList());
+        } catch (IOException ex) {
+            reportFailure("Failed to list log folder: " + folder, ex);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Deletes a file or empty folder, ignoring failures.
+     *
+     * @param path The path to delete.
+     */
+    private static void deleteQuietly(@NotNull Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            reportFailure("Failed to delete old log: " + path, ex);
+        }
+    }
+
+    /**
+     * Reports a failure to the console, as it can't be logged from the log writer thread.
+     *
+     * @param message The failure message.
+     * @param ex      The failure.
+     */
+    private static void reportFailure(@NotNull String message, @NotNull IOException ex) {
+        System.err.println(message + " (" + ex + ")");
+    }
+}
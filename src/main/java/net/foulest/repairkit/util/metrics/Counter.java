@@ -0,0 +1,83 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A counter that can be incremented from many threads without contention.
+ *
+ * @author Foulest
+ */
+public class Counter {
+
+    private final @NotNull String name;
+    private final @NotNull LongAdder value = new LongAdder();
+
+    /**
+     * Creates a new counter; use {@link MetricsRegistry#counter(String)} to get a registered one.
+     *
+     * @param name The name of the counter.
+     */
+    Counter(@NotNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the counter.
+     *
+     * @return The counter's name.
+     */
+    public @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * Adds one to the counter.
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Adds an amount to the counter.
+     *
+     * @param amount The amount to add.
+     */
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    /**
+     * Gets the current value of the counter.
+     *
+     * @return The counter's value.
+     */
+    public long get() {
+        return value.sum();
+    }
+
+    /**
+     * Resets the counter to zero.
+     */
+    void reset() {
+        value.reset();
+    }
+}
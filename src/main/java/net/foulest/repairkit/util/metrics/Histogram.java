@@ -0,0 +1,194 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.metrics;
+
+import lombok.Data;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values with bounded relative error.
+ * <p>
+ * Like an HDR histogram, values are counted in buckets that are linear within
+ * each power of two: every power of two is split into 32 sub-buckets, so
+ * percentiles are accurate to within about 3% of the value, over the whole
+ * range of {@code long}, in a fixed 15 KB of memory. Recording a value is a
+ * single atomic increment.
+ *
+ * @author Foulest
+ */
+public class Histogram {
+
+    // The number of sub-buckets each power of two is split into, as a power of two
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final @NotNull String name;
+    private final @NotNull AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final @NotNull LongAdder count = new LongAdder();
+    private final @NotNull LongAdder sum = new LongAdder();
+    private final @NotNull AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final @NotNull AtomicLong max = new AtomicLong();
+
+    /**
+     * Creates a new histogram; use {@link MetricsRegistry#histogram(String)} to get a registered one.
+     *
+     * @param name The name of the histogram.
+     */
+    Histogram(@NotNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the histogram.
+     *
+     * @return The histogram's name.
+     */
+    public @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * Records a value; negative values are recorded as zero.
+     *
+     * @param value The value to record.
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        buckets.incrementAndGet(bucketIndex(clamped));
+        count.increment();
+        sum.add(clamped);
+
+        if (clamped < min.get()) {
+            min.accumulateAndGet(clamped, Math::min);
+        }
+
+        if (clamped > max.get()) {
+            max.accumulateAndGet(clamped, Math::max);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the recorded values.
+     * Values recorded while the snapshot is taken may be partly included.
+     *
+     * @return The snapshot.
+     */
+    public @NotNull Snapshot snapshot() {
+        long total = count.sum();
+
+        if (total == 0) {
+            return new Snapshot(0, 0, 0, 0, 0, 0, 0, 0);
+        }
+
+        long maxValue = max.get();
+        return new Snapshot(total, min.get(), maxValue, sum.sum() / (double) total,
+                valueAt(0.50, total, maxValue), valueAt(0.90, total, maxValue),
+                valueAt(0.99, total, maxValue), valueAt(0.999, total, maxValue));
+    }
+
+    /**
+     * Clears the recorded values.
+     */
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+
+        count.reset();
+        sum.reset();
+        min.set(Long.MAX_VALUE);
+        max.set(0);
+    }
+
+    /**
+     * Gets the value at a quantile, as the upper bound of the bucket it falls in.
+     *
+     * @param quantile The quantile, from 0 to 1.
+     * @param total    The number of recorded values.
+     * @param maxValue The largest recorded value, bounding the result.
+     * @return The value at the quantile.
+     */
+    private long valueAt(double quantile, long total, long maxValue) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Gets the bucket a value is counted in.
+     *
+     * @param value The value, which must not be negative.
+     * @return The bucket's index.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        // Keeps the top bits of the value as the sub-bucket within its power of two.
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the largest value counted in a bucket.
+     *
+     * @param index The bucket's index.
+     * @return The bucket's upper bound.
+     */
+    static long bucketUpperBound(int index) {
+        int shift = index / SUB_BUCKETS - 1;
+
+        if (shift <= 0) {
+            return index;
+        }
+
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * A snapshot of a histogram's recorded values.
+     */
+    @Data
+    public static class Snapshot {
+
+        private final long count;
+        private final long min;
+        private final long max;
+        private final double mean;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long p999;
+    }
+}
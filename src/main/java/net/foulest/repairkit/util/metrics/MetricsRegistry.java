@@ -0,0 +1,177 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.metrics;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.DebugUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class holding the application's counters, timers and histograms.
+ * <p>
+ * Metrics are registered by name on first use and kept for the lifetime of
+ * the process; callers keep the returned instance in a static field so
+ * recording never needs a map lookup. {@link #reset()} starts a new
+ * measurement window, and {@link #dump()} prints every metric to the log,
+ * with counters also shown as a rate over the window.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetricsRegistry {
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    // The start of the current measurement window
+    private static volatile long windowStartNanos = System.nanoTime();
+
+    /**
+     * Gets a counter, registering it on first use.
+     *
+     * @param name The name of the counter, such as {@code commands.spawned}.
+     * @return The counter.
+     */
+    public static @NotNull Counter counter(@NotNull String name) {
+        return COUNTERS.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Gets a histogram, registering it on first use.
+     *
+     * @param name The name of the histogram.
+     * @return The histogram.
+     */
+    public static @NotNull Histogram histogram(@NotNull String name) {
+        return HISTOGRAMS.computeIfAbsent(name, Histogram::new);
+    }
+
+    /**
+     * Gets a timer, registering it on first use.
+     *
+     * @param name The name of the timer, such as {@code commands.duration}.
+     * @return The timer.
+     * @throws IllegalArgumentException If a histogram that isn't a timer has the same name.
+     */
+    public static @NotNull Timer timer(@NotNull String name) {
+        @NotNull Histogram histogram = HISTOGRAMS.computeIfAbsent(name, Timer::new);
+
+        if (!(histogram instanceof Timer)) {
+            throw new IllegalArgumentException("Metric is not a timer: " + name);
+        }
+        return (Timer) histogram;
+    }
+
+    /**
+     * Gets the current value of every counter.
+     *
+     * @return The counter values, by name in alphabetical order.
+     */
+    public static @NotNull Map<String, Long> getCounterValues() {
+        @NotNull Map<String, Long> values = new TreeMap<>();
+        COUNTERS.forEach((name, counter) -> values.put(name, counter.get()));
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Takes a snapshot of every histogram and timer.
+     *
+     * @return The snapshots, by name in alphabetical order.
+     */
+    public static @NotNull Map<String, Histogram.Snapshot> getSnapshots() {
+        @NotNull Map<String, Histogram.Snapshot> snapshots = new TreeMap<>();
+        HISTOGRAMS.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Gets the time elapsed in the current measurement window.
+     *
+     * @return The window's length, in milliseconds.
+     */
+    public static long getWindowMillis() {
+        return (System.nanoTime() - windowStartNanos) / 1_000_000;
+    }
+
+    /**
+     * Clears every metric and starts a new measurement window.
+     */
+    public static void reset() {
+        COUNTERS.values().forEach(Counter::reset);
+        HISTOGRAMS.values().forEach(Histogram::reset);
+        windowStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Prints every metric to the log.
+     * Timers are shown in milliseconds, and counters with their rate over the window.
+     */
+    public static void dump() {
+        long windowMillis = Math.max(1, getWindowMillis());
+        DebugUtil.info("Metrics over the last {} ms:", windowMillis);
+
+        getCounterValues().forEach((name, value) -> DebugUtil.info("- {}: {} ({}/s)", name, value,
+                String.format(Locale.ROOT, "%.2f", value * 1000.0 / windowMillis)));
+
+        @NotNull Map<String, Histogram> histograms = new TreeMap<>(HISTOGRAMS);
+
+        histograms.forEach((name, histogram) -> {
+            Histogram.@NotNull Snapshot snapshot = histogram.snapshot();
+
+            if (snapshot.getCount() == 0) {
+                return;
+            }
+
+            DebugUtil.info("- {}: {}", name, histogram instanceof Timer
+                    ? formatMillis(snapshot) : formatValues(snapshot));
+        });
+    }
+
+    /**
+     * Formats a timer's snapshot, converting nanoseconds to milliseconds.
+     *
+     * @param snapshot The snapshot to format.
+     * @return The formatted snapshot.
+     */
+    private static @NotNull String formatMillis(Histogram.@NotNull Snapshot snapshot) {
+        return String.format(Locale.ROOT, "count=%d min=%.2f p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f mean=%.2f ms",
+                snapshot.getCount(), snapshot.getMin() / 1e6, snapshot.getP50() / 1e6, snapshot.getP90() / 1e6,
+                snapshot.getP99() / 1e6, snapshot.getP999() / 1e6, snapshot.getMax() / 1e6, snapshot.getMean() / 1e6);
+    }
+
+    /**
+     * Formats a histogram's snapshot.
+     *
+     * @param snapshot The snapshot to format.
+     * @return The formatted snapshot.
+     */
+    private static @NotNull String formatValues(Histogram.@NotNull Snapshot snapshot) {
+        return String.format(Locale.ROOT, "count=%d min=%d p50=%d p90=%d p99=%d p99.9=%d max=%d mean=%.2f",
+                snapshot.getCount(), snapshot.getMin(), snapshot.getP50(), snapshot.getP90(),
+                snapshot.getP99(), snapshot.getP999(), snapshot.getMax(), snapshot.getMean());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * A histogram of durations, in nanoseconds.
+ *
+ * @author Foulest
+ */
+public class Timer extends Histogram {
+
+    /**
+     * Creates a new timer; use {@link MetricsRegistry#timer(String)} to get a registered one.
+     *
+     * @param name The name of the timer.
+     */
+    Timer(@NotNull String name) {
+        super(name);
+    }
+
+    /**
+     * Records the time elapsed since a start time.
+     *
+     * @param startNanos The start time, from {@link System#nanoTime()}.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Runs an operation and records how long it took.
+     *
+     * @param operation The operation to time.
+     */
+    public void time(@NotNull Runnable operation) {
+        long startNanos = System.nanoTime();
+
+        try {
+            operation.run();
+        } finally {
+            recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Runs an operation and records how long it took.
+     *
+     * @param operation The operation to time.
+     * @param <T>       The type of the operation's result.
+     * @return The operation's result.
+     */
+    public <T> T time(@NotNull Supplier<T> operation) {
+        long startNanos = System.nanoTime();
+
+        try {
+            return operation.get();
+        } finally {
+            recordSince(startNanos);
+        }
+    }
+}
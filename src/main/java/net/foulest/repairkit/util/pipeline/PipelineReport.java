@@ -0,0 +1,147 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.pipeline;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.journal.JournalEvent;
+import net.foulest.repairkit.util.journal.RunJournal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents the result of a run of the automatic repairs, as written to a JSON report.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor
+public class PipelineReport {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * The ID of the run, matching its events in the run journal.
+     */
+    private @NotNull String runId = "";
+
+    /**
+     * The time the run started, in epoch milliseconds.
+     */
+    private long started;
+
+    /**
+     * The time the run took, in milliseconds.
+     */
+    private long wallClockMillis;
+
+    /**
+     * The average number of steps that ran at once.
+     */
+    private double parallelism;
+
+    /**
+     * The IDs of the steps that determined when the run finished.
+     */
+    private @NotNull List<String> criticalPath = new ArrayList<>();
+
+    /**
+     * The number of steps that failed.
+     */
+    private int failedSteps;
+
+    /**
+     * The steps that ran.
+     */
+    private @NotNull List<Step> steps = new ArrayList<>();
+
+    /**
+     * Creates a report of a run.
+     *
+     * @param result  The result of the run.
+     * @param started The time the run started, in epoch milliseconds.
+     * @return The report.
+     */
+    public static @NotNull PipelineReport of(@NotNull PipelineResult result, long started) {
+        @NotNull PipelineReport report = new PipelineReport();
+        report.runId = RunJournal.getRunId();
+        report.started = started;
+        report.wallClockMillis = TimeUnit.NANOSECONDS.toMillis(result.getWallClockNanos());
+        report.parallelism = result.getParallelism();
+        report.failedSteps = result.count(JournalEvent.Outcome.FAILED);
+
+        for (@NotNull StepResult step : result.getCriticalPath()) {
+            report.criticalPath.add(step.getStep().getId());
+        }
+
+        for (@NotNull StepResult step : result.getSteps()) {
+            report.steps.add(new Step(step.getStep().getId(), step.getStep().getLabel(), step.getOutcome(),
+                    step.getFailedTasks(), TimeUnit.NANOSECONDS.toMillis(step.getStartNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(step.getDurationNanos())));
+        }
+        return report;
+    }
+
+    /**
+     * Writes the report as JSON.
+     *
+     * @param path The path to write the report to.
+     * @throws IOException If the report could not be written.
+     */
+    public void writeJson(@NotNull Path path) throws IOException {
+        @Nullable Path parent = path.toAbsolutePath().getParent();
+
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (@NotNull Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            GSON.toJson(this, writer);
+        }
+    }
+
+    /**
+     * Represents a step in the report.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Step {
+
+        private @NotNull String id = "";
+        private @NotNull String label = "";
+        private @Nullable JournalEvent.Outcome outcome;
+        private long failedTasks;
+
+        // When the step started, relative to the start of the run
+        private long startMillis;
+        private long durationMillis;
+    }
+}
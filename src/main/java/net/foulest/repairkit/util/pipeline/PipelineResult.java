@@ -0,0 +1,93 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.pipeline;
+
+import lombok.Data;
+import net.foulest.repairkit.util.journal.JournalEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Represents the result of running the automatic repairs.
+ *
+ * @author Foulest
+ */
+@Data
+public class PipelineResult {
+
+    // The results of the steps that ran, in the order they were given
+    private final @NotNull List<StepResult> steps;
+
+    private final long wallClockNanos;
+
+    // The chain of steps that determined when the pipeline finished, first step first
+    private final @NotNull List<StepResult> criticalPath;
+
+    /**
+     * Gets the average number of steps that ran at once;
+     * the sum of the steps' durations divided by the wall-clock time.
+     *
+     * @return The parallelism achieved.
+     */
+    public double getParallelism() {
+        if (wallClockNanos <= 0) {
+            return 0;
+        }
+
+        long totalNanos = 0;
+
+        for (@NotNull StepResult result : steps) {
+            totalNanos += result.getDurationNanos();
+        }
+        return (double) totalNanos / wallClockNanos;
+    }
+
+    /**
+     * Gets the time taken by the steps on the critical path.
+     *
+     * @return The length of the critical path, in nanoseconds.
+     */
+    public long getCriticalPathNanos() {
+        long totalNanos = 0;
+
+        for (@NotNull StepResult result : criticalPath) {
+            totalNanos += result.getDurationNanos();
+        }
+        return totalNanos;
+    }
+
+    /**
+     * Counts the steps that finished with an outcome.
+     *
+     * @param outcome The outcome to count.
+     * @return The number of steps with the outcome.
+     */
+    public int count(@NotNull JournalEvent.Outcome outcome) {
+        return (int) steps.stream().filter(result -> result.getOutcome() == outcome).count();
+    }
+
+    /**
+     * Checks whether any step failed.
+     *
+     * @return Whether any step failed.
+     */
+    public boolean hasFailures() {
+        return count(JournalEvent.Outcome.FAILED) > 0;
+    }
+}
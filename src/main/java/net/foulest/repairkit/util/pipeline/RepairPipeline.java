@@ -0,0 +1,205 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.pipeline;
+
+import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.journal.JournalEvent;
+import net.foulest.repairkit.util.journal.RunJournal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the steps of the automatic repairs as a graph.
+ * <p>
+ * Each step starts as soon as the steps it depends on have finished, whether
+ * they succeeded or not, so independent steps run at the same time. Dependencies
+ * on steps that weren't selected are ignored. Each step is recorded in the run journal.
+ *
+ * @author Foulest
+ */
+public class RepairPipeline {
+
+    private final @NotNull List<RepairStep> steps;
+
+    /**
+     * Creates a new pipeline.
+     *
+     * @param steps The steps to run; each step has to come after the steps it depends on.
+     * @throws IllegalArgumentException If a step comes before a step it depends on.
+     */
+    public RepairPipeline(@NotNull Collection<RepairStep> steps) {
+        this.steps = List.copyOf(steps);
+        @NotNull Set<String> seen = new HashSet<>();
+        @NotNull Set<String> selected = new HashSet<>();
+
+        for (@NotNull RepairStep step : this.steps) {
+            selected.add(step.getId());
+        }
+
+        for (@NotNull RepairStep step : this.steps) {
+            for (@NotNull String dependency : step.getDependencies()) {
+                if (selected.contains(dependency) && !seen.contains(dependency)) {
+                    throw new IllegalArgumentException("Step " + step.getId()
+                            + " comes before its dependency " + dependency);
+                }
+            }
+
+            seen.add(step.getId());
+        }
+    }
+
+    /**
+     * Runs the steps and waits for them to finish.
+     *
+     * @param listener The listener to notify as steps start and finish, or null.
+     * @return The result of the run.
+     */
+    public @NotNull PipelineResult run(@Nullable StepListener listener) {
+        // Gives each ready step its own thread, as steps mostly wait on processes, the registry and disks.
+        @NotNull ExecutorService executor = Executors.newCachedThreadPool();
+        @NotNull Map<String, CompletableFuture<StepResult>> futures = new HashMap<>();
+        long startNanos = System.nanoTime();
+
+        // Chains each step onto the steps it depends on.
+        for (@NotNull RepairStep step : steps) {
+            @NotNull List<CompletableFuture<StepResult>> dependencies = new ArrayList<>();
+
+            for (@NotNull String dependency : step.getDependencies()) {
+                @Nullable CompletableFuture<StepResult> future = futures.get(dependency);
+
+                if (future != null) {
+                    dependencies.add(future);
+                }
+            }
+
+            futures.put(step.getId(), CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+                    .thenApplyAsync(ignored -> runStep(step, startNanos, listener), executor));
+        }
+
+        @NotNull List<StepResult> results = new ArrayList<>();
+
+        for (@NotNull RepairStep step : steps) {
+            results.add(futures.get(step.getId()).join());
+        }
+
+        long wallClockNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+        return new PipelineResult(results, wallClockNanos, findCriticalPath(results));
+    }
+
+    /**
+     * Runs a step, recording it in the run journal.
+     *
+     * @param step       The step to run.
+     * @param startNanos When the pipeline started.
+     * @param listener   The listener to notify, or null.
+     * @return The result of the step.
+     */
+    private static @NotNull StepResult runStep(@NotNull RepairStep step, long startNanos,
+                                               @Nullable StepListener listener) {
+        if (listener != null) {
+            listener.stepStarted(step);
+        }
+
+        long stepStartNanos = System.nanoTime();
+        JournalEvent.Outcome outcome;
+        long failedTasks = 0;
+
+        try {
+            @NotNull JournalEvent event = RunJournal.step(step.getId(), step.getAction());
+            outcome = event.getOutcome();
+            failedTasks = event.getFailedTasks();
+        } catch (RuntimeException ex) {
+            DebugUtil.warn("Failed to run step: {}", step.getId(), ex);
+            outcome = JournalEvent.Outcome.FAILED;
+        }
+
+        @NotNull StepResult result = new StepResult(step, outcome, failedTasks,
+                stepStartNanos - startNanos, System.nanoTime() - stepStartNanos);
+
+        if (listener != null) {
+            listener.stepCompleted(result);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the critical path; starting from the step that finished last,
+     * follows the dependency that finished last back to the first step.
+     *
+     * @param results The results of the steps.
+     * @return The steps on the critical path, first step first.
+     */
+    private static @NotNull List<StepResult> findCriticalPath(@NotNull List<StepResult> results) {
+        @NotNull Map<String, StepResult> resultsById = new HashMap<>();
+        @Nullable StepResult current = null;
+
+        for (@NotNull StepResult result : results) {
+            resultsById.put(result.getStep().getId(), result);
+
+            if (current == null || result.getEndNanos() > current.getEndNanos()) {
+                current = result;
+            }
+        }
+
+        @NotNull LinkedList<StepResult> path = new LinkedList<>();
+
+        while (current != null) {
+            path.addFirst(current);
+            @Nullable StepResult latest = null;
+
+            for (@NotNull String dependency : current.getStep().getDependencies()) {
+                @Nullable StepResult result = resultsById.get(dependency);
+
+                if (result != null && (latest == null || result.getEndNanos() > latest.getEndNanos())) {
+                    latest = result;
+                }
+            }
+
+            current = latest;
+        }
+        return path;
+    }
+
+    /**
+     * Listens for steps starting and finishing.
+     * Called on the thread running the step.
+     */
+    public interface StepListener {
+
+        /**
+         * Called when a step starts.
+         *
+         * @param step The step that started.
+         */
+        default void stepStarted(@NotNull RepairStep step) {
+        }
+
+        /**
+         * Called when a step finishes.
+         *
+         * @param result The result of the step.
+         */
+        void stepCompleted(@NotNull StepResult result);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.pipeline;
+
+import lombok.Data;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Represents a step of the automatic repairs.
+ *
+ * @author Foulest
+ */
+@Data
+public class RepairStep {
+
+    // The ID of the step, used in the run journal (e.g. registryTweaks)
+    private final @NotNull String id;
+
+    // The label shown for the step in the Automatic Repairs panel
+    private final @NotNull String label;
+
+    // The IDs of the steps that have to finish before this step starts
+    private final @NotNull List<String> dependencies;
+
+    private final @NotNull Runnable action;
+}
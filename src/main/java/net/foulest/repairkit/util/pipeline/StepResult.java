@@ -0,0 +1,50 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.util.pipeline;
+
+import lombok.Data;
+import net.foulest.repairkit.util.journal.JournalEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the result of running a step of the automatic repairs.
+ *
+ * @author Foulest
+ */
+@Data
+public class StepResult {
+
+    private final @NotNull RepairStep step;
+    private final @NotNull JournalEvent.Outcome outcome;
+
+    // The number of the step's tasks that failed
+    private final long failedTasks;
+
+    // When the step started, relative to the start of the pipeline
+    private final long startNanos;
+    private final long durationNanos;
+
+    /**
+     * Gets when the step finished, relative to the start of the pipeline.
+     *
+     * @return When the step finished, in nanoseconds.
+     */
+    public long getEndNanos() {
+        return startNanos + durationNanos;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.simulator;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes copies of the bundled config files with their lists of values scaled up,
+ * so repairs can be simulated against much larger configs than are shipped.
+ * <p>
+ * Every entry in a {@code values} list or map is repeated with a numbered suffix;
+ * for registry entries, the suffix goes on the last part of the path, so the
+ * copies are distinct values (or keys) next to the originals. Flags and other
+ * settings are kept as is.
+ *
+ * @author Foulest
+ */
+public class ConfigScaler {
+
+    /**
+     * The names of the config files read by the repairs.
+     */
+    public static final List<String> CONFIG_FILES = List.of(
+            "bloatware.json",
+            "disk_issues.json",
+            "features_tweaks.json",
+            "junk_files.json",
+            "registry_tweaks.json",
+            "services_tweaks.json",
+            "system_policies.json",
+            "system_tweaks.json",
+            "update_programs.json",
+            "windows_defender.json"
+    );
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Type CONFIG_TYPE = new TypeToken<Map<String, Map<String, Object>>>() {
+    }.getType();
+
+    private final int scale;
+
+    /**
+     * Creates a new config scaler.
+     *
+     * @param scale The number of copies of each value to write.
+     */
+    public ConfigScaler(int scale) {
+        this.scale = Math.max(1, scale);
+    }
+
+    /**
+     * Writes the scaled config files to a folder.
+     *
+     * @param folder The folder to write the config files to.
+     * @return The number of values in the scaled config files.
+     * @throws IOException If a config file couldn't be read or written.
+     */
+    public int writeConfigs(@NotNull Path folder) throws IOException {
+        Files.createDirectories(folder);
+        int values = 0;
+
+        for (@NotNull String name : CONFIG_FILES) {
+            @NotNull Map<String, Map<String, Object>> config = scale(readConfig(name));
+
+            for (@NotNull Map<String, Object> section : config.values()) {
+                Object sectionValues = section.get("values");
+
+                if (sectionValues instanceof List<?> list) {
+                    values += list.size();
+                } else if (sectionValues instanceof Map<?, ?> map) {
+                    values += map.size();
+                }
+            }
+
+            try (@NotNull Writer writer = Files.newBufferedWriter(folder.resolve(name), StandardCharsets.UTF_8)) {
+                GSON.toJson(config, writer);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Scales the values in a config.
+     *
+     * @param config The config to scale.
+     * @return The scaled config.
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull Map<String, Map<String, Object>> scale(@NotNull Map<String, Map<String, Object>> config) {
+        @NotNull Map<String, Map<String, Object>> scaled = new LinkedHashMap<>();
+
+        config.forEach((sectionName, section) -> {
+            @NotNull Map<String, Object> scaledSection = new LinkedHashMap<>(section);
+            Object values = section.get("values");
+
+            if (values instanceof List<?> list) {
+                @NotNull List<Object> scaledList = new ArrayList<>(list);
+
+                for (int copy = 2; copy <= scale; copy++) {
+                    for (Object value : list) {
+                        scaledList.add(value instanceof String string ? string + "Copy" + copy : value);
+                    }
+                }
+
+                scaledSection.put("values", scaledList);
+            } else if (values instanceof Map<?, ?> map) {
+                @NotNull Map<String, Object> scaledMap = new LinkedHashMap<>((Map<String, Object>) map);
+
+                for (int copy = 2; copy <= scale; copy++) {
+                    for (Map.Entry<String, Object> entry : ((Map<String, Object>) map).entrySet()) {
+                        scaledMap.put(entry.getKey() + "Copy" + copy, entry.getValue());
+                    }
+                }
+
+                scaledSection.put("values", scaledMap);
+            }
+
+            scaled.put(sectionName, scaledSection);
+        });
+        return scaled;
+    }
+
+    /**
+     * Reads a bundled config file.
+     *
+     * @param name The name of the config file.
+     * @return The parsed config.
+     * @throws IOException If the config file couldn't be read.
+     */
+    private static @NotNull Map<String, Map<String, Object>> readConfig(@NotNull String name) throws IOException {
+        try (InputStream input = ConfigScaler.class.getClassLoader().getResourceAsStream("config/" + name)) {
+            if (input == null) {
+                throw new IOException("Bundled config not found: " + name);
+            }
+
+            try (@NotNull Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+                return GSON.fromJson(reader, CONFIG_TYPE);
+            }
+        }
+    }
+}
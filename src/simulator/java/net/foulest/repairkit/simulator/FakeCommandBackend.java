@@ -0,0 +1,83 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.simulator;
+
+import net.foulest.repairkit.util.CommandUtil;
+import net.foulest.repairkit.util.backend.CommandBackend;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A command backend that pretends to run commands.
+ * <p>
+ * Commands whose output the repairs parse get canned output: the installed
+ * app packages, a running Windows Defender, and enabled optional features.
+ * Every other command succeeds without output.
+ *
+ * @author Foulest
+ */
+public class FakeCommandBackend implements CommandBackend {
+
+    private final @NotNull SimulatedOperations operations;
+    private final @NotNull List<String> installedPackages;
+
+    /**
+     * Creates a new fake command backend.
+     *
+     * @param operations        The simulated operations to run commands with.
+     * @param installedPackages The app packages reported as installed.
+     */
+    public FakeCommandBackend(@NotNull SimulatedOperations operations, @NotNull List<String> installedPackages) {
+        this.operations = operations;
+        this.installedPackages = List.copyOf(installedPackages);
+    }
+
+    @Override
+    public int run(@NotNull String command, CommandUtil.@Nullable LineConsumer lineConsumer) throws IOException {
+        if (!operations.perform()) {
+            throw new IOException("Simulated command failure");
+        }
+
+        if (lineConsumer != null) {
+            for (@NotNull String line : getOutput(command)) {
+                lineConsumer.consume(line);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the canned output of a command.
+     *
+     * @param command The command.
+     * @return The lines of output.
+     */
+    private @NotNull List<String> getOutput(@NotNull String command) {
+        if (command.contains("Get-AppxPackage).ForEach")) {
+            return installedPackages;
+        } else if (command.contains("tasklist") && command.contains("MsMpEng.exe")) {
+            return List.of("MsMpEng.exe                   4242 Services                   0    215,000 K");
+        } else if (command.contains("Get-WindowsOptionalFeature")) {
+            return List.of("", "State", "-----", "Enabled");
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.simulator;
+
+import net.foulest.repairkit.util.backend.FileSystemBackend;
+import net.foulest.repairkit.util.junk.TempFileCleaner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A file system backend that pretends to find and delete junk files.
+ * <p>
+ * Each temp folder holds a fixed number of files, each of which costs one
+ * file operation to clean up. Each search finds a fixed number of files, and
+ * costs one command, as the search runs the Everything Command Line tool.
+ *
+ * @author Foulest
+ */
+public class FakeFileSystemBackend implements FileSystemBackend {
+
+    // The size reported for every junk file
+    private static final long FILE_SIZE = 64 * 1024;
+
+    private final @NotNull SimulatedOperations fileOperations;
+    private final @NotNull SimulatedOperations commandOperations;
+    private final int filesPerFolder;
+    private final int filesPerSearch;
+
+    /**
+     * Creates a new fake file system backend.
+     *
+     * @param fileOperations    The simulated operations to inspect and delete files with.
+     * @param commandOperations The simulated operations to search for files with.
+     * @param filesPerFolder    The number of files in each temp folder.
+     * @param filesPerSearch    The number of files each search finds.
+     */
+    public FakeFileSystemBackend(@NotNull SimulatedOperations fileOperations,
+                                 @NotNull SimulatedOperations commandOperations,
+                                 int filesPerFolder, int filesPerSearch) {
+        this.fileOperations = fileOperations;
+        this.commandOperations = commandOperations;
+        this.filesPerFolder = filesPerFolder;
+        this.filesPerSearch = filesPerSearch;
+    }
+
+    @Override
+    public @NotNull TempFileCleaner.Result cleanTempFolder(@NotNull TempFileCleaner cleaner, @NotNull Path indexFile) {
+        @NotNull TempFileCleaner.Result result = new TempFileCleaner.Result(cleaner.getRoot().toString());
+        long startTime = System.currentTimeMillis();
+
+        for (int i = 0; i < filesPerFolder; i++) {
+            result.setFilesScanned(result.getFilesScanned() + 1);
+
+            if (cleaner.isDryRun()) {
+                continue;
+            }
+
+            if (fileOperations.perform()) {
+                result.setFilesDeleted(result.getFilesDeleted() + 1);
+                result.setBytesDeleted(result.getBytesDeleted() + FILE_SIZE);
+            } else {
+                result.setLockedFiles(result.getLockedFiles() + 1);
+            }
+        }
+
+        result.setElapsedMillis(System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    @Override
+    public @Nullable FileSearch openFileSearch() {
+        return new FileSearch() {
+            @Override
+            public @NotNull List<String> find(@NotNull String pattern) {
+                @NotNull List<String> files = new ArrayList<>();
+
+                if (commandOperations.perform()) {
+                    @NotNull String extension = Integer.toHexString(pattern.hashCode());
+
+                    for (int i = 0; i < filesPerSearch; i++) {
+                        files.add("C:\\Simulated\\Junk\\" + extension + "\\file" + i + ".junk");
+                    }
+                }
+                return files;
+            }
+
+            @Override
+            public void close() {
+                // Nothing to close.
+            }
+        };
+    }
+
+    @Override
+    public @NotNull BasicFileAttributes readAttributes(@NotNull Path file) throws IOException {
+        if (!fileOperations.perform()) {
+            throw new IOException("Simulated attribute read failure: " + file);
+        }
+        return new JunkFileAttributes();
+    }
+
+    @Override
+    public void delete(@NotNull Path file) throws IOException {
+        if (!fileOperations.perform()) {
+            throw new IOException("Simulated delete failure: " + file);
+        }
+    }
+
+    /**
+     * The attributes of a junk file last touched two days ago.
+     */
+    private static final class JunkFileAttributes implements BasicFileAttributes {
+
+        private static final FileTime TWO_DAYS_AGO = FileTime.from(Instant.now().minus(2, ChronoUnit.DAYS));
+
+        @Override
+        public FileTime lastModifiedTime() {
+            return TWO_DAYS_AGO;
+        }
+
+        @Override
+        public FileTime lastAccessTime() {
+            return TWO_DAYS_AGO;
+        }
+
+        @Override
+        public FileTime creationTime() {
+            return TWO_DAYS_AGO;
+        }
+
+        @Override
+        public boolean isRegularFile() {
+            return true;
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return false;
+        }
+
+        @Override
+        public boolean isSymbolicLink() {
+            return false;
+        }
+
+        @Override
+        public boolean isOther() {
+            return false;
+        }
+
+        @Override
+        public long size() {
+            return FILE_SIZE;
+        }
+
+        @Override
+        public @Nullable Object fileKey() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.simulator;
+
+import com.sun.jna.platform.win32.WinReg;
+import net.foulest.repairkit.util.backend.RegistryBackend;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A registry backend that pretends to change the registry.
+ * Failed operations throw, as the real registry API does.
+ *
+ * @author Foulest
+ */
+public class FakeRegistryBackend implements RegistryBackend {
+
+    // The number of sub-keys listed for any key, such as network interfaces
+    private static final int SUB_KEYS = 4;
+
+    private final @NotNull SimulatedOperations operations;
+
+    /**
+     * Creates a new fake registry backend.
+     *
+     * @param operations The simulated operations to change the registry with.
+     */
+    public FakeRegistryBackend(@NotNull SimulatedOperations operations) {
+        this.operations = operations;
+    }
+
+    @Override
+    public void setIntValue(WinReg.HKEY hkey, @NotNull String keyPath, @NotNull String keyName, int value) {
+        perform(keyPath);
+    }
+
+    @Override
+    public void setStringValue(WinReg.HKEY hkey, @NotNull String keyPath, @NotNull String keyName, @NotNull String value) {
+        perform(keyPath);
+    }
+
+    @Override
+    public void deleteValue(WinReg.HKEY hkey, @NotNull String keyPath, @NotNull String keyName) {
+        perform(keyPath);
+    }
+
+    @Override
+    public void deleteKey(WinReg.HKEY hkey, @NotNull String keyPath) {
+        perform(keyPath);
+    }
+
+    @Override
+    public @NotNull List<String> listSubKeys(WinReg.HKEY hkey, @NotNull String keyPath) {
+        perform(keyPath);
+        @NotNull List<String> subKeys = new ArrayList<>();
+
+        for (int i = 0; i < SUB_KEYS; i++) {
+            subKeys.add("Tcpip_{00000000-0000-0000-0000-00000000000" + i + "}");
+        }
+        return subKeys;
+    }
+
+    /**
+     * Performs a simulated registry operation.
+     *
+     * @param keyPath The path of the key operated on.
+     * @throws IllegalStateException If the operation was picked to fail.
+     */
+    private void perform(@NotNull String keyPath) {
+        if (!operations.perform()) {
+            throw new IllegalStateException("Simulated registry failure: " + keyPath);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.simulator;
+
+import net.foulest.repairkit.util.backend.ServiceBackend;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A service backend that pretends to configure services.
+ * Like the real backend, failed changes throw.
+ *
+ * @author Foulest
+ */
+public class FakeServiceBackend implements ServiceBackend {
+
+    private final @NotNull SimulatedOperations operations;
+
+    /**
+     * Creates a new fake service backend.
+     *
+     * @param operations The simulated operations to configure services with.
+     */
+    public FakeServiceBackend(@NotNull SimulatedOperations operations) {
+        this.operations = operations;
+    }
+
+    @Override
+    public void setStartType(@NotNull String service, @NotNull String startType) {
+        perform(service);
+    }
+
+    @Override
+    public void stop(@NotNull String service) {
+        perform(service);
+    }
+
+    @Override
+    public boolean isRunning(@NotNull String service) {
+        return operations.perform();
+    }
+
+    /**
+     * Performs a simulated service change.
+     *
+     * @param service The name of the service changed.
+     * @throws IllegalStateException If the operation was picked to fail.
+     */
+    private void perform(@NotNull String service) {
+        if (!operations.perform()) {
+            throw new IllegalStateException("Simulated service failure: " + service);
+        }
+    }
+}
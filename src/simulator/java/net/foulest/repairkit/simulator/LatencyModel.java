@@ -0,0 +1,124 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.simulator;
+
+import lombok.Data;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A distribution of simulated operation latencies.
+ * <p>
+ * Parsed from specs such as {@code fixed:5}, {@code uniform:1,20}
+ * or {@code lognormal:40,400}; all values are in milliseconds. Log-normal
+ * latencies are given as their median and 99th percentile, which matches how
+ * the latencies of real commands are usually reported.
+ *
+ * @author Foulest
+ */
+@Data
+public class LatencyModel {
+
+    // The 99th percentile of the standard normal distribution
+    private static final double Z_99 = 2.326;
+
+    private final @NotNull String spec;
+    private final @NotNull Kind kind;
+    private final double first;
+    private final double second;
+
+    /**
+     * Parses a latency spec.
+     *
+     * @param spec The spec, such as {@code lognormal:40,400}.
+     * @return The latency model.
+     * @throws IllegalArgumentException If the spec is invalid.
+     */
+    public static @NotNull LatencyModel parse(@NotNull String spec) {
+        int colon = spec.indexOf(':');
+
+        if (colon < 0) {
+            throw new IllegalArgumentException("Invalid latency (expected kind:values): " + spec);
+        }
+
+        @NotNull Kind kind;
+
+        try {
+            kind = Kind.valueOf(spec.substring(0, colon).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown latency kind: " + spec, ex);
+        }
+
+        String @NotNull [] values = spec.substring(colon + 1).split(",");
+
+        try {
+            double first = Double.parseDouble(values[0].trim());
+            double second = values.length > 1 ? Double.parseDouble(values[1].trim()) : first;
+
+            if (first < 0 || second < first || (kind == Kind.LOGNORMAL && first <= 0)) {
+                throw new IllegalArgumentException("Invalid latency values: " + spec);
+            }
+            return new LatencyModel(spec, kind, first, second);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid latency values: " + spec, ex);
+        }
+    }
+
+    /**
+     * Samples a latency.
+     *
+     * @return The latency, in nanoseconds.
+     */
+    public long sampleNanos() {
+        @NotNull ThreadLocalRandom random = ThreadLocalRandom.current();
+        double millis;
+
+        switch (kind) {
+            case UNIFORM:
+                millis = first == second ? first : random.nextDouble(first, second);
+                break;
+
+            case LOGNORMAL:
+                double sigma = Math.log(second / first) / Z_99;
+                millis = first * Math.exp(sigma * random.nextGaussian());
+                break;
+
+            case FIXED:
+            default:
+                millis = first;
+                break;
+        }
+        return (long) (millis * 1_000_000);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return spec;
+    }
+
+    /**
+     * The kinds of latency distribution.
+     */
+    public enum Kind {
+        FIXED,
+        UNIFORM,
+        LOGNORMAL
+    }
+}
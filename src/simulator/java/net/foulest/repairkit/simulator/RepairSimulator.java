@@ -0,0 +1,484 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.simulator;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.foulest.repairkit.util.DebugUtil;
+import net.foulest.repairkit.util.backend.Backends;
+import net.foulest.repairkit.util.config.ConfigLoader;
+import net.foulest.repairkit.util.jfr.FlightRecording;
+import net.foulest.repairkit.util.journal.JournalEvent;
+import net.foulest.repairkit.util.journal.RunJournal;
+import net.foulest.repairkit.util.metrics.MetricsRegistry;
+import net.foulest.repairkit.util.pipeline.PipelineResult;
+import net.foulest.repairkit.util.pipeline.RepairPipeline;
+import net.foulest.repairkit.util.pipeline.RepairStep;
+import net.foulest.repairkit.util.pipeline.RepairSteps;
+import net.foulest.repairkit.util.pipeline.StepResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the automatic repairs end to end against fake backends.
+ * <p>
+ * The real step graph and task runners run unchanged; only the commands,
+ * registry, services and file system are simulated, with configurable latency
+ * distributions and failure rates. Each run reports its wall-clock time, the
+ * parallelism achieved and the critical path through the step graph, along
+ * with how busy each backend was. Nothing on the machine is changed, so the
+ * simulator runs anywhere, including on Linux CI.
+ * <p>
+ * Run with {@code gradlew simulateRepairs --args="..."}; see {@link #printUsage}.
+ *
+ * @author Foulest
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RepairSimulator {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    // The longest time to wait for asynchronous operations to finish after a run
+    private static final long DRAIN_TIMEOUT_MILLIS = 60_000;
+
+    /**
+     * The main method of the simulator.
+     *
+     * @param args The simulator's arguments.
+     */
+    public static void main(String @NotNull [] args) {
+        @NotNull Map<String, String> options = parseOptions(args);
+
+        if (options.containsKey("help")) {
+            printUsage(System.out);
+            return;
+        }
+
+        // Keeps log messages out of the report unless asked for; they still go to the log file.
+        @NotNull PrintStream console = System.out;
+
+        if (!options.containsKey("verbose")) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        try {
+            System.exit(simulate(options, console));
+        } catch (IllegalArgumentException ex) {
+            console.println("Error: " + ex.getMessage());
+            printUsage(console);
+            System.exit(2);
+        } catch (IOException ex) {
+            console.println("Error: " + ex.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the simulation.
+     *
+     * @param options The parsed options.
+     * @param console The stream to print the report to.
+     * @return The exit code.
+     * @throws IOException If the scaled configs or the report couldn't be written.
+     */
+    private static int simulate(@NotNull Map<String, String> options, @NotNull PrintStream console) throws IOException {
+        int scale = parseInt(options, "scale", 1);
+        int runs = parseInt(options, "runs", 1);
+        double failureRate = parseDouble(options, "failure-rate", 0);
+
+        @NotNull SimulatedOperations commands = createOperations(options, "command", "lognormal:40,400", failureRate);
+        @NotNull SimulatedOperations registry = createOperations(options, "registry", "uniform:0.05,0.5", failureRate);
+        @NotNull SimulatedOperations services = createOperations(options, "service", "lognormal:20,200", failureRate);
+        @NotNull SimulatedOperations files = createOperations(options, "file", "uniform:0.05,0.5", failureRate);
+        @NotNull List<SimulatedOperations> backends = List.of(commands, registry, services, files);
+
+        // Writes the scaled configs and points the repairs at them.
+        @NotNull Path configDir = Files.createTempDirectory("repairkit-simulator");
+        int configValues = new ConfigScaler(scale).writeConfigs(configDir);
+        System.setProperty("repairkit.configDir", configDir.toString());
+
+        Backends.setCommandBackend(new FakeCommandBackend(commands, findInstalledPackages(configDir)));
+        Backends.setRegistryBackend(new FakeRegistryBackend(registry));
+        Backends.setServiceBackend(new FakeServiceBackend(services));
+        Backends.setFileSystemBackend(new FakeFileSystemBackend(files, commands,
+                parseInt(options, "temp-files", 500), parseInt(options, "search-files", 20)));
+
+        FlightRecording.startIfRequested(options.containsKey("record")
+                ? new String[]{"--record" + (options.get("record").isEmpty() ? "" : "=" + options.get("record"))}
+                : new String[0]);
+
+        @NotNull List<RepairStep> steps = options.containsKey("steps")
+                ? RepairSteps.select(options.get("steps")) : RepairSteps.getSteps();
+        console.println("Simulating " + steps.size() + " repair steps, " + runs + " run(s), config scale "
+                + scale + " (" + configValues + " config values)");
+        console.println("Latency: command " + commands.getLatency() + ", registry " + registry.getLatency()
+                + ", service " + services.getLatency() + ", file " + files.getLatency() + " (ms)");
+        console.println();
+
+        @NotNull List<RunSummary> summaries = new ArrayList<>();
+
+        for (int run = 1; run <= runs; run++) {
+            backends.forEach(SimulatedOperations::reset);
+            MetricsRegistry.reset();
+
+            @NotNull PipelineResult result = new RepairPipeline(steps).run(null);
+            long drainMillis = awaitDrained(backends);
+            @NotNull RunSummary summary = RunSummary.of(run, result, drainMillis, backends);
+            summaries.add(summary);
+
+            if (runs == 1 || options.containsKey("verbose")) {
+                printRun(console, summary);
+            } else {
+                console.printf(Locale.ROOT, "Run %d: %d ms, parallelism %.2f, critical path %s%n", run,
+                        summary.getWallClockMillis(), summary.getParallelism(), String.join(" > ", summary.getCriticalPath()));
+            }
+        }
+
+        if (runs > 1) {
+            printSummary(console, summaries);
+        }
+
+        @Nullable String reportPath = options.get("report");
+
+        if (reportPath != null && !reportPath.isEmpty()) {
+            try (@NotNull Writer writer = Files.newBufferedWriter(Paths.get(reportPath), StandardCharsets.UTF_8)) {
+                GSON.toJson(summaries, writer);
+            }
+
+            console.println("Wrote report to " + reportPath);
+        }
+
+        RunJournal.flush();
+        DebugUtil.flush();
+        return 0;
+    }
+
+    /**
+     * Creates the simulated operations of a backend from the options.
+     *
+     * @param options            The parsed options.
+     * @param name               The name of the backend, such as {@code command}.
+     * @param defaultLatency     The latency to use if none is given.
+     * @param defaultFailureRate The failure rate to use if none is given.
+     * @return The simulated operations.
+     */
+    private static @NotNull SimulatedOperations createOperations(@NotNull Map<String, String> options, @NotNull String name,
+                                                                 @NotNull String defaultLatency, double defaultFailureRate) {
+        @NotNull LatencyModel latency = LatencyModel.parse(options.getOrDefault(name + "-latency", defaultLatency));
+        double failureRate = parseDouble(options, name + "-failure-rate", defaultFailureRate);
+
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("Failure rates have to be between 0 and 1: " + failureRate);
+        }
+        return new SimulatedOperations(name, latency, failureRate);
+    }
+
+    /**
+     * Picks the app packages to report as installed: every other bloatware entry, plus some that aren't bloatware.
+     *
+     * @param configDir The folder holding the scaled configs.
+     * @return The names of the installed packages.
+     */
+    @SuppressWarnings("unchecked")
+    private static @NotNull List<String> findInstalledPackages(@NotNull Path configDir) {
+        @NotNull List<String> packages = new ArrayList<>(List.of("Microsoft.WindowsCalculator",
+                "Microsoft.WindowsNotepad", "Microsoft.WindowsTerminal", "Microsoft.Paint"));
+        @Nullable Map<String, Object> bloatware = new ConfigLoader(configDir.resolve("bloatware.json").toFile())
+                .getConfig().get("bloatware");
+
+        if (bloatware != null && bloatware.get("values") instanceof List<?> values) {
+            for (int i = 0; i < values.size(); i += 2) {
+                packages.add(((List<String>) values).get(i).replace("*", "Simulated"));
+            }
+        }
+        return packages;
+    }
+
+    /**
+     * Waits for asynchronous operations, such as async commands, to finish after a run.
+     *
+     * @param backends The simulated operations of the backends.
+     * @return How long the wait took, in milliseconds.
+     */
+    private static long awaitDrained(@NotNull List<SimulatedOperations> backends) {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(DRAIN_TIMEOUT_MILLIS);
+
+        while (backends.stream().anyMatch(backend -> backend.getInFlight().get() > 0) && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Prints the details of a run.
+     *
+     * @param console The stream to print to.
+     * @param summary The summary of the run.
+     */
+    private static void printRun(@NotNull PrintStream console, @NotNull RunSummary summary) {
+        console.printf(Locale.ROOT, "%-18s %-8s %10s %10s  %s%n", "Step", "Outcome", "Start ms", "Took ms", "Critical");
+
+        for (@NotNull StepSummary step : summary.getSteps()) {
+            console.printf(Locale.ROOT, "%-18s %-8s %10d %10d  %s%n", step.getId(), step.getOutcome(),
+                    step.getStartMillis(), step.getDurationMillis(), summary.getCriticalPath().contains(step.getId()) ? "*" : "");
+        }
+
+        console.println();
+        console.printf(Locale.ROOT, "%-10s %10s %10s %10s %10s%n", "Backend", "Ops", "Failed", "Max busy", "Busy ms");
+
+        for (@NotNull BackendSummary backend : summary.getBackends()) {
+            console.printf(Locale.ROOT, "%-10s %10d %10d %10d %10d%n", backend.getName(), backend.getOperations(),
+                    backend.getFailures(), backend.getMaxConcurrent(), backend.getBusyMillis());
+        }
+
+        console.println();
+        console.printf(Locale.ROOT, "Wall clock:    %d ms (async operations finished %d ms later)%n",
+                summary.getWallClockMillis(), summary.getDrainMillis());
+        console.printf(Locale.ROOT, "Parallelism:   %.2f (sum of step times / wall clock)%n", summary.getParallelism());
+        console.printf(Locale.ROOT, "Critical path: %s (%d ms)%n",
+                String.join(" > ", summary.getCriticalPath()), summary.getCriticalPathMillis());
+        console.printf(Locale.ROOT, "Steps failed:  %d of %d%n", summary.getFailedSteps(), summary.getSteps().size());
+        console.println();
+    }
+
+    /**
+     * Prints the wall-clock distribution across runs.
+     *
+     * @param console   The stream to print to.
+     * @param summaries The summaries of the runs.
+     */
+    private static void printSummary(@NotNull PrintStream console, @NotNull List<RunSummary> summaries) {
+        long[] wallClocks = summaries.stream().mapToLong(RunSummary::getWallClockMillis).sorted().toArray();
+        double parallelism = summaries.stream().mapToDouble(RunSummary::getParallelism).average().orElse(0);
+        int failedSteps = summaries.stream().mapToInt(RunSummary::getFailedSteps).sum();
+
+        // Counts how often each step was on the critical path.
+        @NotNull Map<String, Integer> critical = new TreeMap<>();
+
+        for (@NotNull RunSummary summary : summaries) {
+            summary.getCriticalPath().forEach(id -> critical.merge(id, 1, Integer::sum));
+        }
+
+        console.println();
+        console.printf(Locale.ROOT, "Wall clock over %d runs: min %d ms, median %d ms, p95 %d ms, max %d ms%n",
+                wallClocks.length, wallClocks[0], wallClocks[wallClocks.length / 2],
+                wallClocks[Math.min(wallClocks.length - 1, (int) Math.ceil(wallClocks.length * 0.95) - 1)],
+                wallClocks[wallClocks.length - 1]);
+        console.printf(Locale.ROOT, "Mean parallelism: %.2f%n", parallelism);
+        console.println("Critical path membership: " + critical);
+        console.println("Steps failed: " + failedSteps);
+        console.println();
+    }
+
+    /**
+     * Parses options of the form {@code --name=value} or {@code --name}.
+     *
+     * @param args The arguments.
+     * @return The options, by name.
+     * @throws IllegalArgumentException If an argument isn't an option.
+     */
+    private static @NotNull Map<String, String> parseOptions(String @NotNull [] args) {
+        @NotNull Map<String, String> options = new HashMap<>();
+
+        for (@NotNull String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+
+            int equals = arg.indexOf('=');
+
+            if (equals < 0) {
+                options.put(arg.substring(2), "");
+            } else {
+                options.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Parses an integer option.
+     *
+     * @param options      The parsed options.
+     * @param name         The name of the option.
+     * @param defaultValue The value to use if the option isn't given.
+     * @return The option's value.
+     * @throws IllegalArgumentException If the value isn't a positive integer.
+     */
+    private static int parseInt(@NotNull Map<String, String> options, @NotNull String name, int defaultValue) {
+        @Nullable String value = options.get(name);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            int parsed = Integer.parseInt(value);
+
+            if (parsed < 0) {
+                throw new IllegalArgumentException("--" + name + " can't be negative: " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("--" + name + " has to be a number: " + value, ex);
+        }
+    }
+
+    /**
+     * Parses a decimal option.
+     *
+     * @param options      The parsed options.
+     * @param name         The name of the option.
+     * @param defaultValue The value to use if the option isn't given.
+     * @return The option's value.
+     * @throws IllegalArgumentException If the value isn't a number.
+     */
+    private static double parseDouble(@NotNull Map<String, String> options, @NotNull String name, double defaultValue) {
+        @Nullable String value = options.get(name);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("--" + name + " has to be a number: " + value, ex);
+        }
+    }
+
+    /**
+     * Prints the simulator's options.
+     *
+     * @param console The stream to print to.
+     */
+    private static void printUsage(@NotNull PrintStream console) {
+        console.println("""
+                Usage: RepairSimulator [options]
+                  --steps=<ids>                  Comma-separated steps or short names to run (default: all)
+                  --scale=<n>                    Repeat each config value n times (default: 1)
+                  --runs=<n>                     Number of runs (default: 1)
+                  --<backend>-latency=<spec>     Latency of a backend's operations, in ms, where <backend> is
+                                                 command, registry, service or file; <spec> is fixed:<ms>,
+                                                 uniform:<min>,<max> or lognormal:<median>,<p99>
+                  --failure-rate=<rate>          Fraction of operations that fail, for every backend (default: 0)
+                  --<backend>-failure-rate=<r>   Fraction of a backend's operations that fail
+                  --temp-files=<n>               Files in each temp folder (default: 500)
+                  --search-files=<n>             Files found by each junk file search (default: 20)
+                  --report=<file>                Write a JSON report of each run
+                  --record[=<file>]              Record a Flight Recorder file of the simulation
+                  --verbose                      Print log messages and every run's details""");
+    }
+
+    /**
+     * Summarizes a run.
+     */
+    @Data
+    static class RunSummary {
+
+        private final int run;
+        private final long wallClockMillis;
+        private final long drainMillis;
+        private final double parallelism;
+        private final @NotNull List<String> criticalPath;
+        private final long criticalPathMillis;
+        private final int failedSteps;
+        private final @NotNull List<StepSummary> steps;
+        private final @NotNull List<BackendSummary> backends;
+
+        /**
+         * Summarizes a run.
+         *
+         * @param run         The number of the run.
+         * @param result      The result of the pipeline.
+         * @param drainMillis How long asynchronous operations ran after the pipeline finished.
+         * @param backends    The simulated operations of the backends.
+         * @return The summary.
+         */
+        static @NotNull RunSummary of(int run, @NotNull PipelineResult result, long drainMillis,
+                                      @NotNull List<SimulatedOperations> backends) {
+            @NotNull List<StepSummary> steps = new ArrayList<>();
+
+            for (@NotNull StepResult step : result.getSteps()) {
+                steps.add(new StepSummary(step.getStep().getId(), step.getOutcome(),
+                        TimeUnit.NANOSECONDS.toMillis(step.getStartNanos()),
+                        TimeUnit.NANOSECONDS.toMillis(step.getDurationNanos())));
+            }
+
+            @NotNull List<BackendSummary> backendSummaries = new ArrayList<>();
+
+            for (@NotNull SimulatedOperations backend : backends) {
+                backendSummaries.add(new BackendSummary(backend.getName(), backend.getOperations().sum(),
+                        backend.getFailures().sum(), backend.getMaxInFlight().get(),
+                        TimeUnit.NANOSECONDS.toMillis(backend.getBusyNanos().sum())));
+            }
+
+            return new RunSummary(run, TimeUnit.NANOSECONDS.toMillis(result.getWallClockNanos()), drainMillis,
+                    result.getParallelism(),
+                    result.getCriticalPath().stream().map(step -> step.getStep().getId()).toList(),
+                    TimeUnit.NANOSECONDS.toMillis(result.getCriticalPathNanos()),
+                    result.count(JournalEvent.Outcome.FAILED), steps, backendSummaries);
+        }
+    }
+
+    /**
+     * Summarizes a step of a run.
+     */
+    @Data
+    static class StepSummary {
+
+        private final @NotNull String id;
+        private final @NotNull JournalEvent.Outcome outcome;
+        private final long startMillis;
+        private final long durationMillis;
+    }
+
+    /**
+     * Summarizes a backend's operations during a run.
+     */
+    @Data
+    static class BackendSummary {
+
+        private final @NotNull String name;
+        private final long operations;
+        private final long failures;
+        private final int maxConcurrent;
+        private final long busyMillis;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * RepairKit - an all-in-one Java-based Windows repair and maintenance toolkit.
+ * Copyright (C) 2026 Foulest (https://github.com/Foulest)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.foulest.repairkit.simulator;
+
+import lombok.Data;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simulates the operations of a fake backend, waiting out a sampled latency
+ * and failing at a configured rate, and counts them.
+ *
+ * @author Foulest
+ */
+@Data
+public class SimulatedOperations {
+
+    private final @NotNull String name;
+    private final @NotNull LatencyModel latency;
+    private final double failureRate;
+
+    private final @NotNull LongAdder operations = new LongAdder();
+    private final @NotNull LongAdder failures = new LongAdder();
+    private final @NotNull LongAdder busyNanos = new LongAdder();
+    private final @NotNull AtomicInteger inFlight = new AtomicInteger();
+    private final @NotNull AtomicInteger maxInFlight = new AtomicInteger();
+
+    /**
+     * Performs a simulated operation.
+     *
+     * @return Whether the operation succeeded; false if it was picked to fail.
+     */
+    public boolean perform() {
+        long latencyNanos = latency.sampleNanos();
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+
+        try {
+            if (latencyNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(latencyNanos);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            operations.increment();
+            busyNanos.add(latencyNanos);
+        }
+
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            failures.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Resets the counters between runs.
+     */
+    public void reset() {
+        operations.reset();
+        failures.reset();
+        busyNanos.reset();
+        maxInFlight.set(0);
+    }
+}